@@ -23,10 +23,12 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -50,3 +52,35 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+// load test - PointController 대상 HTTP 부하 테스트 (./gradlew loadTest -Dload.rate=200 ...)
+tasks.register<Test>("loadTest") {
+    description = "Runs the open-loop HTTP load test against PointController."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    testLogging.showStandardStreams = true
+    systemProperty("load.enabled", "true")
+    System.getProperties()
+        .filter { it.key.toString().startsWith("load.") }
+        .forEach { systemProperty(it.key.toString(), it.value) }
+    outputs.upToDateWhen { false }
+}
+// benchmark - 순위 인덱스 쓰기 오버헤드 측정 (./gradlew benchmark -Dbenchmark.users=5000000 ...)
+tasks.register<Test>("benchmark") {
+    description = "Runs micro benchmarks that are excluded from the regular test task."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging.showStandardStreams = true
+    systemProperty("benchmark.enabled", "true")
+    System.getProperties()
+        .filter { it.key.toString().startsWith("benchmark.") }
+        .forEach { systemProperty(it.key.toString(), it.value) }
+    outputs.upToDateWhen { false }
+}
@@ -1,6 +1,8 @@
 package io.hhplus.tdd;
 
 import io.hhplus.tdd.exception.BaseCustomException;
+import io.hhplus.tdd.exception.WarmupInProgressException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -8,14 +10,22 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    private static final ErrorResponse INTERNAL_ERROR_RESPONSE = new ErrorResponse("500", "에러가 발생했습니다.");
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        return ResponseEntity.status(500).body(INTERNAL_ERROR_RESPONSE);
     }
 
-    // 사용자 정의 에러 응답 설정
+    // 사용자 정의 에러 응답 설정 (예외에 미리 만들어 둔 ErrorResponse 사용)
     @ExceptionHandler(BaseCustomException.class)
     public ResponseEntity<ErrorResponse> handleBaseException(BaseCustomException e) {
-        return ResponseEntity.badRequest().body(new ErrorResponse(e.getErrorCode(), e.getMessage()));
+        return ResponseEntity.badRequest().body(e.toErrorResponse());
+    }
+
+    // warm-up 중에는 잘못된 요청이 아니므로 503 으로 응답
+    @ExceptionHandler(WarmupInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleWarmupInProgressException(WarmupInProgressException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.toErrorResponse());
     }
 }
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.cdc;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * CDC 세그먼트 파일에 한 줄(NDJSON)로 기록되는 포인트 내역
+ * - offset 은 export 순서대로 단조 증가하며, 소비자는 마지막으로 처리한 offset 이후부터 재개할 수 있다.
+ * - 링 버퍼가 가득 차 유실된 내역은 해당 위치에 PointHistoryGap 줄로 표시된다.
+ */
+public record PointHistoryChange(
+        long offset,
+        long id,
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+
+    public static PointHistoryChange of(long offset, PointHistory pointHistory) {
+        return new PointHistoryChange(
+                offset,
+                pointHistory.id(),
+                pointHistory.userId(),
+                pointHistory.amount(),
+                pointHistory.type(),
+                pointHistory.updateMillis()
+        );
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.cdc;
+
+import io.hhplus.tdd.point.PointHistory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 커밋된 PointHistory 를 Exporter 로 전달하는 고정 크기 링 버퍼
+ * - 다수의 생산자(PointService) / 단일 소비자(PointHistoryExporter) 구조
+ * - 생산자는 절대 대기하지 않으며, 버퍼가 가득 찬 경우 해당 항목을 버리고 dropped 카운트를 증가시킨다.
+ * - 항목마다 추가 시점까지 버려진 누적 건수를 함께 저장하여, 소비자가 유실 위치를 스트림에 표시할 수 있도록 한다.
+ * - Exporter 가 시작되기 전(open 전)에는 publish 가 아무 작업도 하지 않는다.
+ */
+@Component
+public class PointHistoryChangeRing {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<PointHistory> buffer;
+    private final AtomicLongArray sequences; // 슬롯별 상태 시퀀스 (pos: 비어있음, pos + 1: 채워짐)
+    private final AtomicLongArray droppedBefore; // 슬롯별 추가 시점의 누적 유실 건수
+    private final AtomicLong head = new AtomicLong(); // 다음 생산 위치
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long tail; // 다음 소비 위치 (소비자 Thread 만 갱신)
+    private volatile boolean open;
+
+    public PointHistoryChangeRing(
+            @Value("${point.cdc.ring-capacity:65536}") int capacity
+    ) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("ring-capacity 는 2의 제곱수여야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.droppedBefore = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 커밋된 포인트 내역을 링에 추가 (non-blocking)
+     *
+     * @param pointHistory  커밋된 포인트 내역
+     * @return              추가 여부 (링이 닫혀 있거나 가득 찬 경우 false)
+     */
+    public boolean publish(
+            final PointHistory pointHistory
+    ) {
+        if (!open) {
+            return false;
+        }
+
+        long position;
+        while (true) {
+            position = head.get();
+            long diff = sequences.get((int) (position & mask)) - position;
+
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // 소비자가 따라오지 못해 링이 가득 찬 상태
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+
+        int index = (int) (position & mask);
+        buffer.set(index, pointHistory);
+        droppedBefore.set(index, dropped.get());
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 링에 쌓인 항목을 최대 maxItems 개까지 꺼내 consumer 에 전달 (단일 소비자 전용)
+     *
+     * @param consumer  항목 처리기 (항목, 추가 시점까지 버려진 누적 건수)
+     * @param maxItems  최대 처리 개수
+     * @return          처리한 항목 수
+     */
+    int drain(
+            final ObjLongConsumer<PointHistory> consumer,
+            final int maxItems
+    ) {
+        int drained = 0;
+        long position = tail;
+
+        while (drained < maxItems) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+
+            PointHistory pointHistory = buffer.get(index);
+            long droppedCount = droppedBefore.get(index);
+            buffer.set(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+            consumer.accept(pointHistory, droppedCount);
+        }
+
+        tail = position;
+        return drained;
+    }
+
+    void open() {
+        open = true;
+    }
+
+    void close() {
+        open = false;
+    }
+
+    /**
+     * @return  아직 export 되지 않은 항목 수
+     */
+    public long lag() {
+        return Math.max(0, head.get() - tail);
+    }
+
+    /**
+     * @return  링이 가득 차 버려진 항목 수
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+}
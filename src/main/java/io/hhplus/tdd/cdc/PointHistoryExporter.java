@@ -0,0 +1,360 @@
+package io.hhplus.tdd.cdc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * PointHistoryChangeRing 에 쌓인 포인트 내역을 백그라운드 Thread 에서 배치 단위로
+ * gzip 압축된 NDJSON 세그먼트 파일(point-history-{시작 offset}.ndjson.gz)에 기록한다.
+ * - PointService 의 charge/use 는 링에 추가만 하므로 export 로 인한 지연이 발생하지 않는다.
+ * - 세그먼트는 records-per-file 건마다 교체되며, 재시작 시 마지막 세그먼트의 offset 이후부터 이어서 기록한다.
+ * - 링 버퍼가 가득 차 유실된 내역은 유실 위치에 PointHistoryGap 줄로 기록하여 소비자가 유실을 알 수 있도록 한다.
+ * - 기록에 실패하면 현재 세그먼트를 마지막으로 flush 된 배치 경계까지 잘라내고(flush 된 내용이 없으면 삭제),
+ *   flush 되지 않은 항목부터 다음 주기에 새 세그먼트에 다시 기록한다. (offset 은 중복되지 않고 항상 증가)
+ *   잘라낸 세그먼트는 비정상 종료로 잘린 세그먼트와 같은 형태(gzip trailer 없음)이므로 소비자는 읽을 수 있는 줄까지만 읽는다.
+ * - 미처리 건수(point.cdc.lag)와 유실 건수(point.cdc.dropped)를 메트릭으로 노출한다.
+ */
+@Component
+public class PointHistoryExporter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryExporter.class);
+
+    private static final String SEGMENT_PREFIX = "point-history-";
+    private static final String SEGMENT_SUFFIX = ".ndjson.gz";
+
+    private final PointHistoryChangeRing ring;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final int batchSize;
+    private final long recordsPerFile;
+    private final Duration pollInterval;
+    private final List<BatchEntry> batch; // 기록 전(또는 기록 실패한) 배치
+    private final AtomicLong unexported = new AtomicLong(); // 종료 시점까지 기록하지 못한 건수
+
+    private ScheduledExecutorService executor;
+    private BufferedWriter writer;
+    private Path segment;
+    private long segmentStartOffset;
+    private long flushedOffset; // 현재 세그먼트에서 flush 가 끝난 다음 offset
+    private long flushedBytes;  // flush 가 끝난 시점의 세그먼트 파일 크기
+    private long nextOffset;
+    private long batchStartOffset;
+    private long recordsInSegment;
+    private long reportedDrops; // gap marker 로 기록한 누적 유실 건수
+    private volatile boolean running;
+
+    public PointHistoryExporter(
+            PointHistoryChangeRing ring,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${point.cdc.enabled:false}") boolean enabled,
+            @Value("${point.cdc.directory:cdc}") Path directory,
+            @Value("${point.cdc.batch-size:1024}") int batchSize,
+            @Value("${point.cdc.records-per-file:100000}") long recordsPerFile,
+            @Value("${point.cdc.poll-interval:200ms}") Duration pollInterval
+    ) {
+        this.ring = ring;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.batchSize = batchSize;
+        this.recordsPerFile = recordsPerFile;
+        this.pollInterval = pollInterval;
+        this.batch = new ArrayList<>(batchSize);
+
+        Gauge.builder("point.cdc.lag", ring, PointHistoryChangeRing::lag)
+                .description("아직 export 되지 않은 포인트 내역 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("point.cdc.dropped", this, PointHistoryExporter::dropped)
+                .description("링 버퍼가 가득 차거나 종료 시 기록하지 못해 유실된 포인트 내역 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            nextOffset = recoverNextOffset();
+            flushedOffset = nextOffset;
+            batchStartOffset = nextOffset;
+            reportedDrops = ring.dropped();
+        } catch (IOException e) {
+            throw new UncheckedIOException("CDC 디렉토리를 초기화할 수 없습니다: " + directory, e);
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-history-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ring.open();
+        executor.scheduleWithFixedDelay(this::drainSafely, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+
+        log.info("PointHistory CDC export 시작 - directory: {}, offset: {}", directory, nextOffset);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        ring.close();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 직전까지 링에 남아있는 항목을 모두 기록
+        drainSafely();
+        closeSegment();
+        if (!batch.isEmpty()) {
+            log.error("PointHistory CDC export 종료 - 기록하지 못한 내역: {}, offset: {}", batch.size(), nextOffset);
+            unexported.addAndGet(batch.size());
+            batch.clear();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작하고 나중에 종료되도록 설정
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * @return  다음에 기록될 offset
+     */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * @return  유실된 포인트 내역 수 (링 버퍼 유실 + 종료 시 기록하지 못한 건수)
+     */
+    public long dropped() {
+        return ring.dropped() + unexported.get();
+    }
+
+    // 스케줄러 Thread 에서 주기적으로 호출 (테스트에서 직접 호출)
+    synchronized void drainSafely() {
+        try {
+            drain();
+        } catch (Exception e) {
+            abandonSegment(); // 다음 시도는 새 세그먼트에 기록
+
+            // flush 까지 끝난 항목은 배치에서 제외하고, 그 다음 offset 부터 다시 기록
+            batch.subList(0, (int) (flushedOffset - batchStartOffset)).clear();
+            nextOffset = flushedOffset;
+            batchStartOffset = flushedOffset;
+            log.error("PointHistory CDC export 실패 - 다음 주기에 재시도합니다. offset: {}, batch: {}", nextOffset, batch.size(), e);
+        }
+    }
+
+    private void drain() throws IOException {
+        while (true) {
+            if (batch.isEmpty()) {
+                int drained = ring.drain(this::collect, batchSize);
+                if (drained < batchSize) {
+                    collectTrailingGap();
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+            }
+
+            writeBatch();
+            batch.clear();
+        }
+    }
+
+    private void collect(
+            final PointHistory pointHistory,
+            final long droppedBefore
+    ) {
+        if (droppedBefore > reportedDrops) {
+            batch.add(new BatchEntry(null, droppedBefore - reportedDrops));
+            reportedDrops = droppedBefore;
+        }
+        batch.add(new BatchEntry(pointHistory, 0));
+    }
+
+    // 링이 비었는데 아직 표시하지 않은 유실 건수가 있으면 gap marker 추가
+    private void collectTrailingGap() {
+        long dropped = ring.dropped();
+        if (dropped > reportedDrops) {
+            batch.add(new BatchEntry(null, dropped - reportedDrops));
+            reportedDrops = dropped;
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        batchStartOffset = nextOffset;
+
+        for (BatchEntry entry : batch) {
+            if (writer == null || recordsInSegment >= recordsPerFile) {
+                rollSegment();
+            }
+            Object line = entry.pointHistory() != null
+                    ? PointHistoryChange.of(nextOffset, entry.pointHistory())
+                    : new PointHistoryGap(nextOffset, entry.dropped());
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.newLine();
+            nextOffset++;
+            recordsInSegment++;
+        }
+
+        // 배치 단위로 flush 하여 소비자가 커밋된 배치까지 읽을 수 있도록 함
+        flushSegment();
+    }
+
+    private void rollSegment() throws IOException {
+        if (writer != null) {
+            flushSegment();
+            closeSegment();
+        }
+
+        segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextOffset, SEGMENT_SUFFIX));
+        segmentStartOffset = nextOffset;
+        writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(segment), true), StandardCharsets.UTF_8));
+        recordsInSegment = 0;
+    }
+
+    private void flushSegment() throws IOException {
+        writer.flush();
+        flushedOffset = nextOffset;
+        flushedBytes = Files.size(segment);
+    }
+
+    private void closeSegment() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("CDC 세그먼트를 닫는 중 오류가 발생했습니다.", e);
+        }
+        writer = null;
+    }
+
+    /**
+     * 기록에 실패한 세그먼트를 마지막 flush 시점으로 되돌림
+     * - flush 되지 않은 줄이 남지 않도록 flush 시점의 파일 크기로 잘라내고, flush 된 줄이 없으면 파일을 삭제한다.
+     */
+    private void abandonSegment() {
+        if (writer == null) {
+            return; // 세그먼트 생성 전에 실패 (이전 세그먼트는 flush 후 닫힘)
+        }
+        closeSegment();
+
+        try {
+            if (flushedOffset == segmentStartOffset) {
+                Files.deleteIfExists(segment);
+            } else {
+                try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                    channel.truncate(flushedBytes);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("기록에 실패한 CDC 세그먼트를 정리하지 못했습니다: {}", segment, e);
+        }
+    }
+
+    /**
+     * 마지막 세그먼트의 시작 offset + 완전히 기록된 줄 수로 다음 offset 을 복구
+     */
+    private long recoverNextOffset() throws IOException {
+        Path lastSegment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            lastSegment = segments
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .max(Path::compareTo)
+                    .orElse(null);
+        }
+
+        if (lastSegment == null) {
+            return 0;
+        }
+
+        String name = lastSegment.getFileName().toString();
+        long startOffset = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+
+        // 잘린 세그먼트는 읽는 도중 예외가 발생하므로, 문자 단위 버퍼링 없이 압축 해제된 바이트에서 바로 개행을 센다.
+        // (Reader 로 읽으면 예외가 발생한 버퍼의 줄을 세지 못함)
+        long lines = 0;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(lastSegment))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+            }
+        } catch (EOFException | ZipException e) {
+            // 비정상 종료로 잘린 세그먼트 - 완전히 기록된 줄까지만 인정
+        }
+
+        return startOffset + lines;
+    }
+
+    /**
+     * 배치 항목 (pointHistory 가 null 이면 dropped 건의 유실 표시)
+     */
+    private record BatchEntry(
+            PointHistory pointHistory,
+            long dropped
+    ) {
+    }
+}
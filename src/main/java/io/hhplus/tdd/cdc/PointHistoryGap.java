@@ -0,0 +1,15 @@
+package io.hhplus.tdd.cdc;
+
+/**
+ * CDC 세그먼트 파일에 기록되는 유실 표시 (gap marker)
+ * - 링 버퍼가 가득 차 export 되지 못한 포인트 내역이 있으면, 유실된 위치에 한 줄로 기록한다.
+ * - 일반 내역과 같은 offset 순서를 따르며 (한 줄이 offset 하나를 차지), 소비자는 dropped 필드로 구분한다.
+ *
+ * @param offset    offset
+ * @param dropped   이 위치에서 유실된 포인트 내역 수
+ */
+public record PointHistoryGap(
+        long offset,
+        long dropped
+) {
+}
@@ -0,0 +1,218 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * UserPointTable 앞단의 유저 포인트 캐시
+ * - 유저 ID 를 primitive long 으로 저장하는 open addressing 해시 테이블을 세그먼트 단위로 나누어 관리한다.
+ *   (대량 적재 시 박싱/엔트리 객체 생성을 피하고, 세그먼트별 락으로 병렬 적재가 가능하도록 함)
+ * - 조회(get/pointOf)는 락 없이 StampedLock 의 optimistic read 로 수행하고, 그 사이 변경이 있었던 경우에만 읽기 락을 잡는다.
+ * - 포인트 변경은 PointService 가 유저 락 안에서 put 으로 반영하고, 조회 결과는 putIfAbsent 로만 채운다.
+ */
+@Component
+public class UserPointCache {
+
+    private static final int SEGMENT_COUNT = 256;
+    private static final int INITIAL_SEGMENT_CAPACITY = 1 << 10;
+    private static final long EMPTY = 0L; // 유저 ID 는 항상 자연수이므로 0 을 빈 슬롯으로 사용
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public UserPointCache() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @param id    유저 ID
+     * @return      캐시된 유저 포인트 (없으면 null)
+     */
+    public UserPoint get(long id) {
+        long hash = hash(id);
+        return segmentOf(hash).get(id, hash);
+    }
+
+    /**
+     * UserPoint 객체를 만들지 않고 포인트만 조회
+     *
+     * @param id    유저 ID
+     * @return      캐시된 포인트 (없으면 -1)
+     */
+    public long pointOf(long id) {
+        long hash = hash(id);
+        return segmentOf(hash).pointOf(id, hash);
+    }
+
+    /**
+     * 유저 포인트를 저장 (기존 값 덮어쓰기)
+     */
+    public void put(UserPoint userPoint) {
+        put(userPoint.id(), userPoint.point(), userPoint.updateMillis());
+    }
+
+    public void put(long id, long point, long updateMillis) {
+        long hash = hash(id);
+        segmentOf(hash).put(id, hash, point, updateMillis, true);
+    }
+
+    /**
+     * 캐시에 없는 경우에만 유저 포인트를 저장
+     * - 락 없이 조회한 값이 유저 락 안에서 갱신된 값을 덮어쓰지 않도록 한다.
+     *
+     * @return  저장 여부
+     */
+    public boolean putIfAbsent(UserPoint userPoint) {
+        return putIfAbsent(userPoint.id(), userPoint.point(), userPoint.updateMillis());
+    }
+
+    public boolean putIfAbsent(long id, long point, long updateMillis) {
+        long hash = hash(id);
+        return segmentOf(hash).put(id, hash, point, updateMillis, false);
+    }
+
+    /**
+     * @return  캐시된 유저 수
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long hash) {
+        return segments[(int) (hash >>> 56)]; // 상위 8 bit 로 세그먼트 선택
+    }
+
+    private static long hash(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] ids = new long[INITIAL_SEGMENT_CAPACITY];
+        private long[] points = new long[INITIAL_SEGMENT_CAPACITY];
+        private long[] updateMillis = new long[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        UserPoint get(long id, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            int slot = lookup(id, hash);
+            long point = slot >= 0 ? points[slot] : -1;
+            long millis = slot >= 0 ? updateMillis[slot] : 0;
+
+            if (!lock.validate(stamp)) {
+                // 조회 도중 변경이 있었던 경우 읽기 락을 잡고 다시 조회
+                stamp = lock.readLock();
+                try {
+                    slot = lookup(id, hash);
+                    point = slot >= 0 ? points[slot] : -1;
+                    millis = slot >= 0 ? updateMillis[slot] : 0;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return slot >= 0 ? new UserPoint(id, point, millis) : null;
+        }
+
+        long pointOf(long id, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            int slot = lookup(id, hash);
+            long point = slot >= 0 ? points[slot] : -1;
+            if (lock.validate(stamp)) {
+                return point;
+            }
+
+            stamp = lock.readLock();
+            try {
+                slot = lookup(id, hash);
+                return slot >= 0 ? points[slot] : -1;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean put(long id, long hash, long point, long millis, boolean overwrite) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = find(ids, id, hash);
+
+                if (ids[slot] == EMPTY) {
+                    ids[slot] = id;
+                    size++;
+                } else if (!overwrite) {
+                    return false;
+                }
+
+                points[slot] = point;
+                updateMillis[slot] = millis;
+
+                if (size * 4 > ids.length * 3) {
+                    resize();
+                }
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * id 가 있는 슬롯 (없으면 -1)
+         * - 락 없이 호출될 수 있으므로 크기를 늘리는 중인 배열을 읽더라도 범위를 벗어나지 않도록 한다. (결과는 호출한 쪽에서 validate 로 확인)
+         */
+        private int lookup(long id, long hash) {
+            long[] currentIds = ids;
+            if (currentIds.length != points.length || currentIds.length != updateMillis.length) {
+                return -1; // 크기를 늘리는 중 (validate 실패)
+            }
+
+            int slot = find(currentIds, id, hash);
+            return currentIds[slot] == EMPTY ? -1 : slot;
+        }
+
+        private void resize() {
+            long[] oldIds = ids;
+            long[] oldPoints = points;
+            long[] oldUpdateMillis = updateMillis;
+
+            ids = new long[oldIds.length * 2];
+            points = new long[oldIds.length * 2];
+            updateMillis = new long[oldIds.length * 2];
+
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] != EMPTY) {
+                    int slot = find(ids, oldIds[i], hash(oldIds[i]));
+                    ids[slot] = oldIds[i];
+                    points[slot] = oldPoints[i];
+                    updateMillis[slot] = oldUpdateMillis[i];
+                }
+            }
+        }
+
+        // linear probing - id 가 있는 슬롯 또는 첫 번째 빈 슬롯
+        private static int find(long[] ids, long id, long hash) {
+            int mask = ids.length - 1;
+            int slot = (int) hash & mask;
+            while (ids[slot] != EMPTY && ids[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package io.hhplus.tdd.exception;
 
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 사용자 정의 예외의 공통 부모 클래스
+ * - 요청 검증 실패/거절을 표현하는 예외이므로 stack trace 를 채우지 않는다. (거절 요청의 CPU/메모리 비용 절감)
+ * - 기본 메시지를 사용하는 예외는 각 클래스의 INSTANCE 를 재사용하고, 응답용 ErrorResponse 도 미리 만들어 둔다.
+ */
 public abstract class BaseCustomException extends RuntimeException {
     private final String code;
+    private final ErrorResponse errorResponse;
 
     public BaseCustomException(String message, String code) {
-        super(message);
+        super(message, null, false, false);
         this.code = code;
+        this.errorResponse = new ErrorResponse(code, message);
     }
 
     public String getErrorCode() {
         return code;
     }
+
+    public ErrorResponse toErrorResponse() {
+        return errorResponse;
+    }
 }
@@ -2,6 +2,8 @@ package io.hhplus.tdd.exception;
 
 public class ExceedingChargeException extends BaseCustomException {
 
+    public static final ExceedingChargeException INSTANCE = new ExceedingChargeException();
+
     public ExceedingChargeException() {
         super("최대 충전 금액을 초과하였습니다.", "1003");
     }
@@ -2,6 +2,8 @@ package io.hhplus.tdd.exception;
 
 public class ExceedingUseException extends BaseCustomException {
 
+    public static final ExceedingUseException INSTANCE = new ExceedingUseException();
+
     public ExceedingUseException() {
         super("사용 금액을 초과하였습니다.", "1004");
     }
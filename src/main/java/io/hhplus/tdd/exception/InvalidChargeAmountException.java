@@ -2,6 +2,8 @@ package io.hhplus.tdd.exception;
 
 public class InvalidChargeAmountException extends BaseCustomException{
 
+    public static final InvalidChargeAmountException INSTANCE = new InvalidChargeAmountException();
+
     public InvalidChargeAmountException() {
         super("잘못된 충전값 입니다.", "1002");
     }
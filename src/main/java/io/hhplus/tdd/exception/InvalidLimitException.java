@@ -0,0 +1,13 @@
+package io.hhplus.tdd.exception;
+
+public class InvalidLimitException extends BaseCustomException {
+
+    public static final InvalidLimitException INSTANCE = new InvalidLimitException();
+
+    public InvalidLimitException() {
+        super("잘못된 조회 개수 입니다.", "1006");
+    }
+    public InvalidLimitException(String message) {
+        super(message, "1006");
+    }
+}
@@ -2,6 +2,8 @@ package io.hhplus.tdd.exception;
 
 public class InvalidUseAmountException extends BaseCustomException {
 
+    public static final InvalidUseAmountException INSTANCE = new InvalidUseAmountException();
+
     public InvalidUseAmountException() {
         super("잘못된 충전값 입니다.", "1005");
     }
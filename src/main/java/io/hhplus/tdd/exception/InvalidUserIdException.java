@@ -2,6 +2,8 @@ package io.hhplus.tdd.exception;
 
 public class InvalidUserIdException extends BaseCustomException {
 
+    public static final InvalidUserIdException INSTANCE = new InvalidUserIdException();
+
     public InvalidUserIdException() {
         super("잘못된 사용자 ID 입니다.", "1001");
     }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.exception;
+
+public class SpendingLimitExceededException extends BaseCustomException {
+
+    public static final SpendingLimitExceededException INSTANCE = new SpendingLimitExceededException();
+
+    public SpendingLimitExceededException() {
+        super("사용 한도를 초과하였습니다.", "1007");
+    }
+    public SpendingLimitExceededException(String message) {
+        super(message, "1007");
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.exception;
+
+public class WarmupInProgressException extends BaseCustomException {
+
+    public static final WarmupInProgressException INSTANCE = new WarmupInProgressException();
+
+    public WarmupInProgressException() {
+        super("포인트 데이터를 불러오는 중입니다. 잠시 후 다시 시도해주세요.", "1008");
+    }
+    public WarmupInProgressException(String message) {
+        super(message, "1008");
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.hotkey;
+
+/**
+ * 요청이 집중되는 유저 정보
+ *
+ * @param userId            유저 ID
+ * @param estimatedRequests 현재 윈도우의 근사 요청 수
+ */
+public record HotKey(
+        long userId,
+        long estimatedRequests
+) {
+}
@@ -0,0 +1,182 @@
+package io.hhplus.tdd.hotkey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * PointService 로 유입되는 유저 ID 중 요청이 집중되는 유저(hot key)를 탐지
+ * - Count-Min Sketch 로 윈도우 단위 요청 수를 근사 집계하므로 유저 수와 무관하게 메모리 사용량이 고정된다.
+ * - 윈도우 내 요청 수가 hot-threshold 이상이면 hot key 로 등록하고 (최대 max-hot-keys 개),
+ *   윈도우 종료 시점에 cool-threshold 미만으로 떨어진 유저는 hot key 에서 해제한다.
+ * - 윈도우 교체는 요청 집계(record)와 목록 조회(hotKeys) 시점에 수행하므로, 요청이 끊긴 유저도 조회 시 해제된다.
+ */
+@Component
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;
+    private static final long EMPTY = 0L; // 유저 ID 는 항상 자연수이므로 0 을 빈 슬롯으로 사용
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final boolean enabled;
+    private final int width;
+    private final long windowMillis;
+    private final long hotThreshold;
+    private final long coolThreshold;
+    private final AtomicLongArray sketch;   // DEPTH x width 카운터
+    private final AtomicLongArray hotKeys;  // 현재 hot key 슬롯
+    private final AtomicLong windowStart;
+
+    public HotKeyDetector(
+            @Value("${point.hotkey.enabled:false}") boolean enabled,
+            @Value("${point.hotkey.sketch-width:2048}") int width,
+            @Value("${point.hotkey.window:1s}") Duration window,
+            @Value("${point.hotkey.hot-threshold:50}") long hotThreshold,
+            @Value("${point.hotkey.cool-threshold:20}") long coolThreshold,
+            @Value("${point.hotkey.max-hot-keys:16}") int maxHotKeys
+    ) {
+        this.enabled = enabled;
+        this.width = width;
+        this.windowMillis = window.toMillis();
+        this.hotThreshold = hotThreshold;
+        this.coolThreshold = coolThreshold;
+        this.sketch = new AtomicLongArray(DEPTH * width);
+        this.hotKeys = new AtomicLongArray(maxHotKeys);
+        this.windowStart = new AtomicLong(System.currentTimeMillis());
+    }
+
+    /**
+     * 유저 요청을 집계하고 hot key 여부를 반환
+     *
+     * @param userId    유저 ID
+     * @return          hot key 여부
+     */
+    public boolean record(
+            final long userId
+    ) {
+        return record(userId, System.currentTimeMillis());
+    }
+
+    boolean record(
+            final long userId,
+            final long nowMillis
+    ) {
+        if (!enabled) {
+            return false;
+        }
+
+        rotateIfExpired(nowMillis);
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.incrementAndGet(index(row, userId)));
+        }
+
+        if (isHot(userId)) {
+            return true;
+        }
+
+        return estimate >= hotThreshold && promote(userId);
+    }
+
+    /**
+     * @param userId    유저 ID
+     * @return          현재 hot key 여부
+     */
+    public boolean isHot(
+            final long userId
+    ) {
+        for (int i = 0; i < hotKeys.length(); i++) {
+            if (hotKeys.get(i) == userId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return  현재 hot key 목록과 이번 윈도우의 근사 요청 수
+     */
+    public List<HotKey> hotKeys() {
+        return hotKeys(System.currentTimeMillis());
+    }
+
+    List<HotKey> hotKeys(
+            final long nowMillis
+    ) {
+        rotateIfExpired(nowMillis);
+
+        List<HotKey> result = new ArrayList<>();
+        for (int i = 0; i < hotKeys.length(); i++) {
+            long userId = hotKeys.get(i);
+            if (userId != EMPTY) {
+                result.add(new HotKey(userId, estimate(userId)));
+            }
+        }
+        return result;
+    }
+
+    private boolean promote(long userId) {
+        for (int i = 0; i < hotKeys.length(); i++) {
+            if (hotKeys.get(i) == EMPTY && hotKeys.compareAndSet(i, EMPTY, userId)) {
+                // 동시에 같은 유저가 다른 슬롯에도 등록되었다면 앞쪽 슬롯만 남기고 뒤쪽 슬롯을 비움
+                // (양쪽이 서로를 보더라도 뒤쪽 슬롯을 차지한 Thread 만 비우므로 한 슬롯은 항상 남음)
+                for (int j = 0; j < i; j++) {
+                    if (hotKeys.get(j) == userId) {
+                        hotKeys.compareAndSet(i, userId, EMPTY);
+                        break;
+                    }
+                }
+                return true;
+            }
+        }
+        return false; // 슬롯이 가득 찬 경우 기존 hot key 가 식을 때까지 일반 경로로 처리
+    }
+
+    /**
+     * 윈도우가 끝났다면 식은 hot key 를 해제하고 sketch 를 초기화
+     * - 경계 시점에 동시에 들어온 요청 일부가 집계에서 빠질 수 있으나 근사치이므로 허용한다.
+     * - 윈도우가 두 번 이상 지났다면 직전 윈도우에는 요청이 없었으므로 모든 hot key 를 해제한다.
+     */
+    private void rotateIfExpired(
+            final long nowMillis
+    ) {
+        long start = windowStart.get();
+        if (nowMillis - start < windowMillis || !windowStart.compareAndSet(start, nowMillis)) {
+            return;
+        }
+
+        boolean idle = nowMillis - start >= windowMillis * 2;
+        for (int i = 0; i < hotKeys.length(); i++) {
+            long userId = hotKeys.get(i);
+            if (userId != EMPTY && (idle || estimate(userId) < coolThreshold)) {
+                hotKeys.compareAndSet(i, userId, EMPTY);
+            }
+        }
+
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.set(i, 0);
+        }
+    }
+
+    private long estimate(long userId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.get(index(row, userId)));
+        }
+        return estimate;
+    }
+
+    private int index(int row, long userId) {
+        long hash = (userId ^ SEEDS[row]) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return row * width + (int) Math.floorMod(hash, (long) width);
+    }
+}
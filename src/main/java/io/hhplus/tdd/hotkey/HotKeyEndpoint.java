@@ -0,0 +1,24 @@
+package io.hhplus.tdd.hotkey;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 현재 hot key 목록 조회 (GET /actuator/hotkeys)
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    @ReadOperation
+    public List<HotKey> hotKeys() {
+        return hotKeyDetector.hotKeys();
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 포인트 충전/사용 요청 1건의 단계별 소요 시간을 기록하는 JFR 이벤트
+ * - 기본적으로 비활성화되어 있으며, PointCommandRecorder 의 연속 recording 이나 이 이벤트를 활성화한 recording 이 있을 때만 기록된다.
+ * - PointCommandRecorder.begin 으로만 생성하며, 이벤트 구간(시작 시각, duration)은 요청 처리 전체 구간이다.
+ */
+@Name(PointCommandEvent.NAME)
+@Label("Point Command")
+@Description("포인트 충전/사용 요청의 락 대기 및 테이블 접근 단계별 소요 시간")
+@Category({"hhplus", "Point"})
+@Enabled(false)
+@StackTrace(false)
+public final class PointCommandEvent extends Event {
+
+    static final String NAME = "io.hhplus.tdd.PointCommand";
+
+    PointCommandEvent() {
+    }
+
+    @Label("User ID")
+    long userId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Committed")
+    boolean committed;
+
+    @Label("Coalesced")
+    @Description("hot key 묶음 처리 경로로 처리되었는지 여부")
+    boolean coalesced;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("Lock Wait")
+    @Timespan
+    long lockWait;
+
+    @Label("Select")
+    @Description("UserPointCache/UserPointTable.selectById 소요 시간")
+    @Timespan
+    long select;
+
+    @Label("History Insert")
+    @Description("PointHistoryTable.insert 소요 시간")
+    @Timespan
+    long historyInsert;
+
+    @Label("Update")
+    @Description("UserPointTable.insertOrUpdate 소요 시간")
+    @Timespan
+    long update;
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.jfr;
+
+import io.hhplus.tdd.point.TransactionType;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 충전/사용 요청의 단계별 소요 시간을 JFR 이벤트(PointCommandEvent)로 기록
+ * - point.jfr.enabled=true 인 경우 이름이 "point-commands" 인 연속 recording 을 시작한다.
+ *   (jcmd {pid} JFR.dump name=point-commands filename=point.jfr 로 언제든 덤프할 수 있다.)
+ * - 이벤트 기록 여부는 JFR 설정(event.isEnabled)만으로 판단하므로, point.jfr.enabled 와 관계없이
+ *   io.hhplus.tdd.PointCommand 를 활성화한 다른 recording(jcmd JFR.start settings=...)에도 기록된다.
+ * - 요청 시작 시 begin 으로 이벤트를 만들고 끝날 때 record 로 커밋하므로, 이벤트의 시작 시각과 duration 이
+ *   요청 전체 구간을 나타낸다. (느린 요청을 duration 으로 찾고 JFR 타임라인에서 위치를 확인할 수 있음)
+ * - 이벤트가 비활성화된 경우 필드를 채우지 않고 바로 반환하며, 이벤트 객체는 JIT 의 escape analysis 로 제거된다.
+ */
+@Component
+public class PointCommandRecorder implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PointCommandRecorder.class);
+
+    static final String RECORDING_NAME = "point-commands";
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final String destination;
+
+    private Recording recording;
+
+    public PointCommandRecorder(
+            @Value("${point.jfr.enabled:false}") boolean enabled,
+            @Value("${point.jfr.max-age:1h}") Duration maxAge,
+            @Value("${point.jfr.destination:}") String destination
+    ) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.destination = destination;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        recording = new Recording();
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.enable(PointCommandEvent.class).withoutThreshold();
+
+        if (!destination.isBlank()) {
+            try {
+                recording.setDestination(Path.of(destination)); // 종료 시 해당 경로로 덤프
+            } catch (IOException e) {
+                throw new UncheckedIOException("JFR 덤프 경로를 설정할 수 없습니다: " + destination, e);
+            }
+        }
+
+        recording.start();
+        log.info("PointCommand JFR recording 시작 - maxAge: {}, destination: {}", maxAge, destination);
+    }
+
+    @Override
+    public void stop() {
+        if (recording == null) {
+            return;
+        }
+
+        recording.close(); // destination 이 설정된 경우 덤프 후 종료
+        recording = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    /**
+     * 포인트 충전/사용 요청 1건의 이벤트를 시작 (요청 처리를 시작할 때 호출)
+     *
+     * @return  record 에 전달할 이벤트
+     */
+    public PointCommandEvent begin() {
+        PointCommandEvent event = new PointCommandEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * begin 으로 시작한 이벤트에 단계별 소요 시간을 채워 커밋
+     *
+     * @param event                 begin 으로 시작한 이벤트
+     * @param userId                유저 ID
+     * @param type                  트랜잭션 종류
+     * @param committed             커밋 여부 (검증 실패 등으로 거절된 경우 false)
+     * @param coalesced             hot key 묶음 처리 여부
+     * @param batchSize             함께 처리된 요청 수
+     * @param lockWaitNanos         유저 락 대기 시간
+     * @param selectNanos           포인트 조회 시간
+     * @param historyInsertNanos    내역 저장 시간
+     * @param updateNanos           포인트 저장 시간
+     */
+    public void record(
+            final PointCommandEvent event,
+            final long userId,
+            final TransactionType type,
+            final boolean committed,
+            final boolean coalesced,
+            final int batchSize,
+            final long lockWaitNanos,
+            final long selectNanos,
+            final long historyInsertNanos,
+            final long updateNanos
+    ) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        event.userId = userId;
+        event.operation = type.name();
+        event.committed = committed;
+        event.coalesced = coalesced;
+        event.batchSize = batchSize;
+        event.lockWait = lockWaitNanos;
+        event.select = selectNanos;
+        event.historyInsert = historyInsertNanos;
+        event.update = updateNanos;
+        event.commit();
+    }
+}
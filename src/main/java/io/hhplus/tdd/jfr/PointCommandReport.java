@@ -0,0 +1,134 @@
+package io.hhplus.tdd.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR recording 파일에서 PointCommandEvent 를 읽어 단계별 지연 시간 리포트를 출력
+ * - operation(CHARGE/USE) 별로 각 단계의 p50/p90/p99/p99.9/max 를 출력하고,
+ *   전체 소요 시간(이벤트 duration)이 가장 긴 요청을 단계별로 나열한다.
+ * - 실행: java -cp {bootJar} -Dloader.main=io.hhplus.tdd.jfr.PointCommandReport
+ *         org.springframework.boot.loader.launch.PropertiesLauncher {recording.jfr} [slowest 출력 개수]
+ */
+public class PointCommandReport {
+
+    private static final String[] PHASES = {"lockWait", "select", "historyInsert", "update"};
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p99.9", "max"};
+
+    private final List<RecordedEvent> events;
+
+    public PointCommandReport(List<RecordedEvent> events) {
+        this.events = events;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: PointCommandReport <recording.jfr> [slowest]");
+            System.exit(1);
+        }
+
+        int slowest = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        new PointCommandReport(read(Path.of(args[0]))).print(System.out, slowest);
+    }
+
+    /**
+     * recording 파일에서 PointCommandEvent 만 추출
+     */
+    public static List<RecordedEvent> read(Path recording) throws IOException {
+        List<RecordedEvent> events = new ArrayList<>();
+        try (RecordingFile recordingFile = new RecordingFile(recording)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                if (PointCommandEvent.NAME.equals(event.getEventType().getName())) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    public void print(PrintStream out, int slowest) {
+        Map<String, List<RecordedEvent>> byOperation = new TreeMap<>();
+        for (RecordedEvent event : events) {
+            byOperation.computeIfAbsent(event.getString("operation"), operation -> new ArrayList<>()).add(event);
+        }
+
+        for (Map.Entry<String, List<RecordedEvent>> entry : byOperation.entrySet()) {
+            List<RecordedEvent> operationEvents = entry.getValue();
+            long committed = operationEvents.stream().filter(event -> event.getBoolean("committed")).count();
+            long coalesced = operationEvents.stream().filter(event -> event.getBoolean("coalesced")).count();
+
+            out.printf("== %s (count: %d, committed: %d, coalesced: %d) ==%n",
+                    entry.getKey(), operationEvents.size(), committed, coalesced);
+            out.printf("%-14s", "phase (ms)");
+            for (String label : PERCENTILE_LABELS) {
+                out.printf("%12s", label);
+            }
+            out.println();
+
+            for (String phase : PHASES) {
+                printPhase(out, phase, operationEvents.stream().mapToLong(event -> phaseNanos(event, phase)).toArray());
+            }
+            printPhase(out, "total", operationEvents.stream().mapToLong(PointCommandReport::totalNanos).toArray());
+            out.println();
+        }
+
+        out.printf("== slowest %d ==%n", slowest);
+        events.stream()
+                .sorted(Comparator.comparingLong(PointCommandReport::totalNanos).reversed())
+                .limit(slowest)
+                .forEach(event -> {
+                    out.printf("%s userId=%d %s committed=%s coalesced=%s batch=%d total=%.3fms",
+                            event.getStartTime(), event.getLong("userId"), event.getString("operation"),
+                            event.getBoolean("committed"), event.getBoolean("coalesced"), event.getInt("batchSize"),
+                            toMillis(totalNanos(event)));
+                    for (String phase : PHASES) {
+                        out.printf(" %s=%.3fms", phase, toMillis(phaseNanos(event, phase)));
+                    }
+                    out.println();
+                });
+    }
+
+    private static void printPhase(PrintStream out, String phase, long[] nanos) {
+        Arrays.sort(nanos);
+        out.printf("%-14s", phase);
+        for (double percentile : PERCENTILES) {
+            out.printf("%12.3f", toMillis(percentile(nanos, percentile)));
+        }
+        out.println();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static long phaseNanos(RecordedEvent event, String phase) {
+        Duration duration = event.getDuration(phase);
+        return duration.toNanos();
+    }
+
+    // 이벤트 구간은 요청 처리 전체 구간이므로 단계에 포함되지 않는 시간(검증, 인덱스 갱신 등)도 포함된다.
+    private static long totalNanos(RecordedEvent event) {
+        return event.getDuration().toNanos();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.limit;
+
+/**
+ * 슬라이딩 윈도우 사용 한도 규칙
+ * - 윈도우를 buckets 개의 버킷으로 나누어 집계하고, 현재 버킷을 포함해 buckets + 1 개의 버킷을 유지한다.
+ *   (버킷 경계 때문에 한도가 느슨해지지 않도록 윈도우보다 최대 버킷 하나만큼 길게 집계)
+ *
+ * @param windowMillis  윈도우 길이
+ * @param buckets       윈도우를 나누는 버킷 수
+ * @param maxAmount     윈도우 동안 사용 가능한 최대 포인트
+ */
+record SpendingLimitRule(
+        long windowMillis,
+        int buckets,
+        long maxAmount
+) {
+
+    long bucketMillis() {
+        return windowMillis / buckets;
+    }
+
+    int slots() {
+        return buckets + 1;
+    }
+
+    /**
+     * @return  버킷에 기록된 사용량이 모두 만료되기까지의 시간
+     */
+    long retentionMillis() {
+        return bucketMillis() * slots();
+    }
+}
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.limit;
+
+import io.hhplus.tdd.exception.SpendingLimitExceededException;
+import io.hhplus.tdd.support.ConcurrentLongMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 포인트 사용 한도 (예: 24시간 동안 X 포인트, 1시간 동안 Y 포인트)
+ * - 내역 테이블을 조회하지 않고 유저별 슬라이딩 윈도우 ring 버킷(SpendingWindow)의 합계로 O(1) 에 한도를 확인한다.
+ *   (24시간 규칙은 1시간 단위 24 개, 1시간 규칙은 1분 단위 60 개 버킷)
+ * - PointService 가 유저 락 안에서 check 로 확인하고, 사용이 반영된 뒤 record 로 기록한다.
+ * - 마지막 사용 후 가장 긴 윈도우가 지난 유저의 윈도우는 제거하여 유휴 유저가 메모리를 차지하지 않도록 한다.
+ *   (sweep-interval 마다 세그먼트 하나씩 순환하며 정리)
+ */
+@Component
+public class SpendingLimiter {
+
+    private static final int DAILY_BUCKETS = 24;
+    private static final int HOURLY_BUCKETS = 60;
+
+    private final SpendingLimitRule[] rules;
+    private final long idleMillis;
+    private final long sweepIntervalMillis;
+    private final ConcurrentLongMap<SpendingWindow> windows = new ConcurrentLongMap<>();
+    private final AtomicLong nextSweepMillis;
+    private final AtomicInteger sweepCursor = new AtomicInteger();
+
+    public SpendingLimiter(
+            @Value("${point.limit.enabled:false}") boolean enabled,
+            @Value("${point.limit.daily-max-amount:0}") long dailyMaxAmount,
+            @Value("${point.limit.hourly-max-amount:0}") long hourlyMaxAmount,
+            @Value("${point.limit.sweep-interval:1m}") Duration sweepInterval
+    ) {
+        List<SpendingLimitRule> configuredRules = new ArrayList<>();
+        if (enabled && dailyMaxAmount > 0) {
+            configuredRules.add(new SpendingLimitRule(TimeUnit.DAYS.toMillis(1), DAILY_BUCKETS, dailyMaxAmount));
+        }
+        if (enabled && hourlyMaxAmount > 0) {
+            configuredRules.add(new SpendingLimitRule(TimeUnit.HOURS.toMillis(1), HOURLY_BUCKETS, hourlyMaxAmount));
+        }
+
+        this.rules = configuredRules.toArray(new SpendingLimitRule[0]);
+        this.idleMillis = configuredRules.stream().mapToLong(SpendingLimitRule::retentionMillis).max().orElse(0);
+        this.sweepIntervalMillis = sweepInterval.toMillis();
+        this.nextSweepMillis = new AtomicLong(System.currentTimeMillis() + sweepIntervalMillis);
+    }
+
+    /**
+     * 사용 한도 확인 (유저 락을 잡은 상태에서 호출)
+     *
+     * @param userId    유저 ID
+     * @param amount    사용할 포인트 (아직 기록되지 않은 사용량 포함)
+     */
+    public void check(
+            final long userId,
+            final long amount
+    ) {
+        if (rules.length > 0) {
+            check(userId, amount, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 사용량 기록 (유저 락을 잡은 상태에서 호출)
+     *
+     * @param userId    유저 ID
+     * @param amount    사용한 포인트
+     */
+    public void record(
+            final long userId,
+            final long amount
+    ) {
+        if (rules.length > 0 && amount > 0) {
+            record(userId, amount, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @return  사용량을 보관 중인 유저 수
+     */
+    public long windowCount() {
+        return windows.size();
+    }
+
+    void check(
+            final long userId,
+            final long amount,
+            final long nowMillis
+    ) {
+        SpendingWindow window = windows.get(userId);
+        boolean allowed = window != null ? window.allows(amount, nowMillis) : allowsWithoutUsage(amount);
+        if (!allowed) {
+            throw SpendingLimitExceededException.INSTANCE;
+        }
+    }
+
+    void record(
+            final long userId,
+            final long amount,
+            final long nowMillis
+    ) {
+        // 제거된 윈도우에 기록하면 사용량이 유실되므로 새 윈도우를 만들어 다시 기록 (제거된 윈도우는 모든 버킷이 만료된 상태)
+        // (제거는 세그먼트 락 안에서 끝나므로 한 번만 다시 시도하면 새 윈도우를 얻는다)
+        SpendingWindow window;
+        do {
+            window = windows.computeIfAbsent(userId, id -> new SpendingWindow(rules, nowMillis));
+        } while (!window.add(amount, nowMillis));
+
+        sweepIfDue(nowMillis);
+    }
+
+    private boolean allowsWithoutUsage(
+            final long amount
+    ) {
+        for (SpendingLimitRule rule : rules) {
+            if (amount > rule.maxAmount()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // sweep-interval 마다 한 Thread 만 세그먼트 하나를 정리
+    private void sweepIfDue(
+            final long nowMillis
+    ) {
+        long next = nextSweepMillis.get();
+        if (nowMillis < next || !nextSweepMillis.compareAndSet(next, nowMillis + sweepIntervalMillis)) {
+            return;
+        }
+
+        int segment = Math.floorMod(sweepCursor.getAndIncrement(), windows.segmentCount());
+        windows.removeIf(segment, window -> window.evictIfIdle(nowMillis, idleMillis));
+    }
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.limit;
+
+/**
+ * 유저 한 명의 규칙별 사용량 ring 버킷
+ * - 규칙별로 [마지막 버킷 번호, 합계, 버킷 0 ... 버킷 n] 을 하나의 long 배열에 연속으로 저장한다.
+ * - 시간이 지나 만료된 버킷은 조회/기록 시점에 비우고 합계에서 빼므로, 한도 확인은 버킷 수와 무관하게 합계 비교로 끝난다.
+ * - 유저 락 안에서만 접근하지만, 유휴 윈도우 제거와 경합하지 않도록 윈도우 단위로 동기화한다.
+ */
+final class SpendingWindow {
+
+    private final SpendingLimitRule[] rules;
+    private final long[] data;
+    private long lastRecordMillis;
+    private boolean evicted;
+
+    SpendingWindow(
+            final SpendingLimitRule[] rules,
+            final long nowMillis
+    ) {
+        int length = 0;
+        for (SpendingLimitRule rule : rules) {
+            length += 2 + rule.slots();
+        }
+
+        this.rules = rules;
+        this.data = new long[length];
+        this.lastRecordMillis = nowMillis;
+
+        int offset = 0;
+        for (SpendingLimitRule rule : rules) {
+            data[offset] = nowMillis / rule.bucketMillis();
+            offset += 2 + rule.slots();
+        }
+    }
+
+    /**
+     * @param amount    추가로 사용할 포인트
+     * @return          모든 규칙의 한도 이내인지 여부
+     */
+    synchronized boolean allows(
+            final long amount,
+            final long nowMillis
+    ) {
+        int offset = 0;
+        for (SpendingLimitRule rule : rules) {
+            advance(rule, offset, nowMillis);
+            if (data[offset + 1] + amount > rule.maxAmount()) {
+                return false;
+            }
+            offset += 2 + rule.slots();
+        }
+        return true;
+    }
+
+    /**
+     * 현재 버킷에 사용량을 기록
+     *
+     * @return  기록 여부 (이미 제거된 윈도우면 false)
+     */
+    synchronized boolean add(
+            final long amount,
+            final long nowMillis
+    ) {
+        if (evicted) {
+            return false;
+        }
+
+        int offset = 0;
+        for (SpendingLimitRule rule : rules) {
+            advance(rule, offset, nowMillis);
+            data[offset + 2 + (int) (data[offset] % rule.slots())] += amount;
+            data[offset + 1] += amount;
+            offset += 2 + rule.slots();
+        }
+        lastRecordMillis = Math.max(lastRecordMillis, nowMillis);
+        return true;
+    }
+
+    /**
+     * 마지막 기록 후 idleMillis 이상 지났으면 (모든 버킷이 만료되었으면) 제거 대상으로 표시
+     *
+     * @return  제거 대상 여부
+     */
+    synchronized boolean evictIfIdle(
+            final long nowMillis,
+            final long idleMillis
+    ) {
+        if (nowMillis - lastRecordMillis < idleMillis) {
+            return false;
+        }
+
+        evicted = true;
+        return true;
+    }
+
+    // 마지막 버킷 이후 지나간 버킷을 비우고 합계에서 차감 (최대 버킷 수만큼만 반복)
+    private void advance(
+            final SpendingLimitRule rule,
+            final int offset,
+            final long nowMillis
+    ) {
+        long bucket = nowMillis / rule.bucketMillis();
+        long lastBucket = data[offset];
+        if (bucket <= lastBucket) {
+            return; // 같은 버킷이거나 시계가 뒤로 간 경우 마지막 버킷에 그대로 기록
+        }
+
+        int slots = rule.slots();
+        if (bucket - lastBucket >= slots) {
+            for (int i = 0; i < slots; i++) {
+                data[offset + 2 + i] = 0;
+            }
+            data[offset + 1] = 0;
+        } else {
+            for (long expired = lastBucket + 1; expired <= bucket; expired++) {
+                int slot = offset + 2 + (int) (expired % slots);
+                data[offset + 1] -= data[slot];
+                data[slot] = 0;
+            }
+        }
+        data[offset] = bucket;
+    }
+}
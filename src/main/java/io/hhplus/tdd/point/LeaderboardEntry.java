@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point;
+
+public record LeaderboardEntry(
+        long rank,
+        long userId,
+        long point
+) {
+}
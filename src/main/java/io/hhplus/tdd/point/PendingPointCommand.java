@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+/**
+ * hot key 유저의 충전/사용 요청을 모아서 처리(coalescing)하기 위한 대기 요청
+ * - 결과는 유저 락을 잡은 Thread 가 기록하고, 요청 Thread 는 같은 락을 획득한 뒤 읽으므로 별도의 동기화가 필요 없다.
+ */
+class PendingPointCommand {
+
+    private final TransactionType type;
+    private final long amount;
+
+    private long point;
+    private PointHistory pointHistory;
+    private UserPoint result;
+    private RuntimeException failure;
+
+    // JFR 기록용 단계별 소요 시간 (묶음 단위로 수행된 단계는 묶음 전체의 소요 시간)
+    private long selectNanos;
+    private long historyInsertNanos;
+    private long updateNanos;
+    private int batchSize;
+
+    PendingPointCommand(TransactionType type, long amount) {
+        this.type = type;
+        this.amount = amount;
+    }
+
+    TransactionType type() {
+        return type;
+    }
+
+    long amount() {
+        return amount;
+    }
+
+    long point() {
+        return point;
+    }
+
+    PointHistory pointHistory() {
+        return pointHistory;
+    }
+
+    void applied(long point, PointHistory pointHistory) {
+        this.point = point;
+        this.pointHistory = pointHistory;
+    }
+
+    void complete(UserPoint result) {
+        this.result = result;
+    }
+
+    void fail(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    void traced(long selectNanos, long historyInsertNanos, long updateNanos, int batchSize) {
+        this.selectNanos = selectNanos;
+        this.historyInsertNanos = historyInsertNanos;
+        this.updateNanos = updateNanos;
+        this.batchSize = batchSize;
+    }
+
+    long selectNanos() {
+        return selectNanos;
+    }
+
+    long historyInsertNanos() {
+        return historyInsertNanos;
+    }
+
+    long updateNanos() {
+        return updateNanos;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    boolean isCommitted() {
+        return result != null;
+    }
+
+    boolean isDone() {
+        return result != null || failure != null;
+    }
+
+    UserPoint result() {
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+}
@@ -42,6 +42,32 @@ public class PointController {
         return pointService.history(id);
     }
 
+    /**
+     * 포인트 보유 상위 유저를 조회
+     *
+     * @param limit     조회할 유저 수
+     * @return          포인트 보유 순위
+     */
+    @GetMapping("leaderboard")
+    public List<LeaderboardEntry> leaderboard(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return pointService.leaderboard(limit);
+    }
+
+    /**
+     * 특정 유저의 포인트 보유 순위를 조회
+     *
+     * @param id    유저 ID
+     * @return      유저의 포인트 보유 순위
+     */
+    @GetMapping("{id}/rank")
+    public LeaderboardEntry rank(
+            @PathVariable long id
+    ) {
+        return pointService.rank(id);
+    }
+
     /**
      * 특정 유저의 포인트를 충전
      *
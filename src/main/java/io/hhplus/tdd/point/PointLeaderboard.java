@@ -0,0 +1,224 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 포인트 보유 순위 인덱스
+ * - (포인트 내림차순, 유저 ID 오름차순) 으로 정렬된 skip list 로 상위 N 명을 O(log n + N) 에 조회한다.
+ * - 포인트 값(0 ~ UserPoint.MAX_POINT) 별 유저 수를 2 단계 Fenwick tree 로 관리하여 순위를 O(log MAX_POINT) 에 계산한다.
+ *   (BLOCK_SIZE 포인트 단위 블록별 유저 수 Fenwick tree + 블록 내부 Fenwick tree)
+ * - 블록 내부 Fenwick tree 는 해당 구간에 유저가 처음 생길 때 만들므로, 메모리는 유저가 있는 블록 수에 비례한다.
+ *   (블록 목록 약 80KB + 블록당 약 4KB, 모든 블록을 사용해도 약 40MB)
+ * - 포인트가 0 인 유저는 인덱스에 포함하지 않는다.
+ * - update 는 PointService 가 유저 락 안에서 호출하므로 같은 유저에 대한 갱신은 동시에 일어나지 않는다.
+ * - warm-up 처럼 많은 유저를 한 번에 적재할 때는 seed 로 한 번 정렬한 뒤 skip list 앞쪽에 순서대로 추가하고,
+ *   Fenwick tree 는 블록 단위로 구성하여 더한다. (유저마다 update 하면 skip list 탐색 + Fenwick 갱신이 건마다 반복됨)
+ */
+@Component
+public class PointLeaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingLong(Entry::point).reversed()
+            .thenComparingLong(Entry::userId);
+
+    private static final int BLOCK_BITS = 10;
+    private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    private static final int BLOCK_COUNT = (int) (UserPoint.MAX_POINT >>> BLOCK_BITS) + 1;
+
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final AtomicIntegerArray blockCounts = new AtomicIntegerArray(BLOCK_COUNT + 1); // 블록별 유저 수 (1-based Fenwick tree)
+    private final AtomicReferenceArray<AtomicIntegerArray> blocks = new AtomicReferenceArray<>(BLOCK_COUNT); // 블록 내부 Fenwick tree
+
+    /**
+     * 유저의 포인트 변경을 인덱스에 반영
+     *
+     * @param userId        유저 ID
+     * @param previousPoint 변경 전 포인트
+     * @param point         변경 후 포인트
+     */
+    public void update(
+            final long userId,
+            final long previousPoint,
+            final long point
+    ) {
+        if (previousPoint == point) {
+            return;
+        }
+
+        // 인덱스에 없던 유저(기존 테이블에만 있던 유저)는 제거할 항목이 없다.
+        if (previousPoint > 0 && entries.remove(new Entry(previousPoint, userId))) {
+            add(previousPoint, -1);
+        }
+
+        if (point > 0 && entries.add(new Entry(point, userId))) {
+            add(point, 1);
+        }
+    }
+
+    /**
+     * 인덱스에 없는 유저들의 포인트를 한 번에 적재 (warm-up 용)
+     * - 한 번 정렬한 뒤 큰 항목부터 추가하여 skip list 의 앞쪽에만 삽입되도록 한다. (삽입 위치 탐색이 거의 없음)
+     * - Fenwick tree 는 정렬 순서상 연속된 블록 단위로 포인트별 유저 수를 선형 구성한 뒤 더한다.
+     *
+     * @param userIds   유저 ID 목록
+     * @param points    유저별 포인트 (0 이하는 인덱스에 포함하지 않음)
+     * @param size      적재할 유저 수
+     */
+    public void seed(
+            final long[] userIds,
+            final long[] points,
+            final int size
+    ) {
+        Entry[] sorted = new Entry[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (points[i] > 0) {
+                sorted[count++] = new Entry(points[i], userIds[i]);
+            }
+        }
+        Arrays.parallelSort(sorted, 0, count, ORDER);
+
+        int[] tree = new int[BLOCK_SIZE + 1];
+        int block = -1;
+        int blockTotal = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            Entry entry = sorted[i];
+            sorted[i] = null; // 추가한 항목은 바로 해제
+            if (!entries.add(entry)) {
+                continue;
+            }
+
+            int entryBlock = (int) (entry.point() >>> BLOCK_BITS);
+            if (entryBlock != block) {
+                addBlock(block, tree, blockTotal);
+                block = entryBlock;
+                blockTotal = 0;
+            }
+            tree[(int) (entry.point() & BLOCK_MASK) + 1]++;
+            blockTotal++;
+        }
+        addBlock(block, tree, blockTotal);
+    }
+
+    /**
+     * 포인트 상위 유저 조회 (동점자는 같은 순위)
+     *
+     * @param limit 조회할 유저 수
+     * @return      순위 목록
+     */
+    public List<LeaderboardEntry> top(
+            final int limit
+    ) {
+        List<LeaderboardEntry> result = new ArrayList<>(limit);
+        Iterator<Entry> iterator = entries.iterator();
+
+        long rank = 0;
+        long previousPoint = -1;
+        while (result.size() < limit && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.point() != previousPoint) {
+                rank = result.size() + 1;
+                previousPoint = entry.point();
+            }
+            result.add(new LeaderboardEntry(rank, entry.userId(), entry.point()));
+        }
+
+        return result;
+    }
+
+    /**
+     * 해당 포인트의 순위 (해당 포인트보다 많이 보유한 유저 수 + 1)
+     *
+     * @param point 포인트
+     * @return      순위
+     */
+    public long rankOf(
+            final long point
+    ) {
+        return countAtMost(UserPoint.MAX_POINT) - countAtMost(point) + 1;
+    }
+
+    /**
+     * @return  인덱스에 포함된 유저 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void add(long point, int delta) {
+        int block = (int) (point >>> BLOCK_BITS);
+        add(blockOf(block), (int) (point & BLOCK_MASK) + 1, delta);
+        add(blockCounts, block + 1, delta);
+    }
+
+    // seed 에서 구성한 블록의 포인트별 유저 수(tree)를 Fenwick tree 로 변환하여 더하고 tree 를 비움
+    private void addBlock(int block, int[] tree, int blockTotal) {
+        if (block < 0 || blockTotal == 0) {
+            return;
+        }
+
+        AtomicIntegerArray blockTree = blockOf(block);
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+            if (tree[i] != 0) {
+                blockTree.addAndGet(i, tree[i]);
+                tree[i] = 0;
+            }
+        }
+        add(blockCounts, block + 1, blockTotal);
+    }
+
+    // 블록 내부 Fenwick tree (처음 사용할 때 생성)
+    private AtomicIntegerArray blockOf(int block) {
+        AtomicIntegerArray tree = blocks.get(block);
+        if (tree == null) {
+            blocks.compareAndSet(block, null, new AtomicIntegerArray(BLOCK_SIZE + 1));
+            tree = blocks.get(block);
+        }
+        return tree;
+    }
+
+    // 포인트가 point 이하인 유저 수
+    private long countAtMost(long point) {
+        long clamped = Math.min(point, UserPoint.MAX_POINT);
+        int block = (int) (clamped >>> BLOCK_BITS);
+        long count = sum(blockCounts, block); // 앞쪽 블록 전체
+
+        AtomicIntegerArray tree = blocks.get(block);
+        if (tree != null) {
+            count += sum(tree, (int) (clamped & BLOCK_MASK) + 1);
+        }
+        return count;
+    }
+
+    private static void add(AtomicIntegerArray tree, int index, int delta) {
+        for (int i = index; i < tree.length(); i += i & -i) {
+            tree.addAndGet(i, delta);
+        }
+    }
+
+    // tree[1..index] 의 합
+    private static long sum(AtomicIntegerArray tree, int index) {
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree.get(i);
+        }
+        return sum;
+    }
+
+    private record Entry(long point, long userId) {
+    }
+}
@@ -1,22 +1,43 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.cdc.PointHistoryChangeRing;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.exception.*;
+import io.hhplus.tdd.hotkey.HotKeyDetector;
+import io.hhplus.tdd.jfr.PointCommandEvent;
+import io.hhplus.tdd.jfr.PointCommandRecorder;
+import io.hhplus.tdd.limit.SpendingLimiter;
+import io.hhplus.tdd.support.ConcurrentLongMap;
+import io.hhplus.tdd.warmup.UserPointWarmupGate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
 
 @RequiredArgsConstructor
 @Service
 public class PointService {
 
+    private static final int MAX_COALESCED_COMMANDS = 64; // hot key 요청을 한 번에 모아 처리할 최대 개수
+    private static final int MAX_LEADERBOARD_LIMIT = 100; // 순위 조회 최대 개수
+
     private final UserPointTable userPointTable;
+    private final UserPointCache userPointCache; // UserPointTable 앞단 캐시 (warm-up 시 미리 적재)
     private final PointHistoryTable pointHistoryTable;
-    private final ConcurrentHashMap<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>(); // 유저 ID 별로 Lock 을 관리
+    private final PointHistoryChangeRing pointHistoryChangeRing; // 커밋된 내역을 CDC Exporter 로 전달
+    private final HotKeyDetector hotKeyDetector; // 요청이 집중되는 유저 탐지
+    private final PointCommandRecorder pointCommandRecorder; // 단계별 소요 시간 JFR 기록
+    private final PointLeaderboard pointLeaderboard; // 포인트 보유 순위 인덱스
+    private final SpendingLimiter spendingLimiter; // 유저별 사용 한도 (슬라이딩 윈도우)
+    private final UserPointWarmupGate userPointWarmupGate; // 잔액 warm-up 이 끝나기 전 요청 거절
+    private final ConcurrentLongMap<ReentrantLock> userLocks = new ConcurrentLongMap<>(); // 유저 ID 별로 Lock 을 관리 (키 박싱 없음)
+    private final ConcurrentLongMap<Queue<PendingPointCommand>> pendingCommands = new ConcurrentLongMap<>(); // hot key 유저별 대기 요청
 
     /**
      * 특정 유저의 포인트를 조회하는 기능
@@ -28,10 +49,11 @@ public class PointService {
             final long userId
     ) {
         if (userId <= 0) {
-            throw new InvalidUserIdException();
+            throw InvalidUserIdException.INSTANCE;
         }
+        userPointWarmupGate.check();
 
-        return userPointTable.selectById(userId);
+        return loadUserPoint(userId);
     }
 
     /**
@@ -47,6 +69,41 @@ public class PointService {
     }
 
 
+    /**
+     * 포인트 보유 상위 유저를 조회하는 기능
+     *
+     * @param limit     조회할 유저 수 (1 ~ 100)
+     * @return          포인트 보유 순위 리스트
+     */
+    List<LeaderboardEntry> leaderboard(
+            final int limit
+    ) {
+        if (limit <= 0 || limit > MAX_LEADERBOARD_LIMIT) {
+            throw InvalidLimitException.INSTANCE;
+        }
+        userPointWarmupGate.check();
+
+        return pointLeaderboard.top(limit);
+    }
+
+    /**
+     * 특정 유저의 포인트 보유 순위를 조회하는 기능
+     *
+     * @param userId    유저 ID
+     * @return          유저의 포인트 보유 순위
+     */
+    LeaderboardEntry rank(
+            final long userId
+    ) {
+        if (userId <= 0) {
+            throw InvalidUserIdException.INSTANCE;
+        }
+        userPointWarmupGate.check();
+
+        UserPoint userPoint = loadUserPoint(userId);
+        return new LeaderboardEntry(pointLeaderboard.rankOf(userPoint.point()), userId, userPoint.point());
+    }
+
     /**
      * 특정 유저의 포인트를 충전하는 기능
      *
@@ -60,71 +117,294 @@ public class PointService {
     ) {
 
         if (userId <= 0) {
-            throw new InvalidUserIdException();
+            throw InvalidUserIdException.INSTANCE;
+        }
+
+        if (amount <= 0) {
+            throw InvalidChargeAmountException.INSTANCE;
+        }
+        userPointWarmupGate.check();
+
+        return execute(userId, TransactionType.CHARGE, amount);
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용하는 기능
+     *
+     * @param userId    유저 ID
+     * @param amount    사용할 포인트
+     * @return          사용 후 유저 포인트
+     */
+    UserPoint use(
+            final long userId,
+            final long amount
+    ) {
+        if (userId <= 0) {
+            throw InvalidUserIdException.INSTANCE;
         }
 
         if (amount <= 0) {
-            throw new InvalidChargeAmountException();
+            throw InvalidUseAmountException.INSTANCE;
+        }
+        userPointWarmupGate.check();
+
+        return execute(userId, TransactionType.USE, amount);
+    }
+
+    /**
+     * 유저 락을 잡고 충전/사용을 처리하는 기능
+     * - hot key 로 탐지된 유저는 대기 중인 요청을 모아 한 번에 처리하는 경로로 전환한다.
+     *
+     * @param userId    유저 ID
+     * @param type      트랜잭션 종류
+     * @param amount    충전/사용할 포인트
+     * @return          처리 후 유저 포인트
+     */
+    private UserPoint execute(
+            final long userId,
+            final TransactionType type,
+            final long amount
+    ) {
+        PointCommandEvent event = pointCommandRecorder.begin(); // 요청 전체 구간을 JFR 이벤트로 기록
+
+        if (hotKeyDetector.record(userId)) {
+            return executeCoalesced(event, userId, type, amount);
         }
 
         ReentrantLock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+
+        long phaseStartNanos = System.nanoTime();
         lock.lock(); // 유저 락 설정
+        long lockWaitNanos = System.nanoTime() - phaseStartNanos;
+        long selectNanos = 0;
+        long historyInsertNanos = 0;
+        long updateNanos = 0;
+        boolean committed = false;
 
         try {
-            UserPoint originalUserPoint = userPointTable.selectById(userId);
+            phaseStartNanos = System.nanoTime();
+            long originalPoint = loadPoint(userId);
+            selectNanos = System.nanoTime() - phaseStartNanos;
 
-            if (originalUserPoint.point() + amount > 10_000_000) {
-                throw new ExceedingChargeException();
+            long updatedPoint = calculate(originalPoint, type, amount);
+            if (type == TransactionType.USE) {
+                spendingLimiter.check(userId, amount);
             }
 
-            long updatedPoint = originalUserPoint.point() + amount;
+            phaseStartNanos = System.nanoTime();
+            PointHistory pointHistory = pointHistoryTable.insert(userId, updatedPoint, type, System.currentTimeMillis());
+            historyInsertNanos = System.nanoTime() - phaseStartNanos;
 
-            pointHistoryTable.insert(userId, updatedPoint, TransactionType.CHARGE, System.currentTimeMillis());
+            phaseStartNanos = System.nanoTime();
+            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, updatedPoint);
+            updateNanos = System.nanoTime() - phaseStartNanos;
+            userPointCache.put(updatedUserPoint);
+            pointLeaderboard.update(userId, originalPoint, updatedPoint);
+            if (type == TransactionType.USE) {
+                spendingLimiter.record(userId, amount);
+            }
 
-            return userPointTable.insertOrUpdate(userId, updatedPoint);
+            pointHistoryChangeRing.publish(pointHistory); // 락 안에서 발행하여 유저별 순서 보장 (non-blocking)
+            committed = true;
+
+            return updatedUserPoint;
 
         } finally {
             lock.unlock(); // 유저 락 해제
+            pointCommandRecorder.record(event, userId, type, committed, false, 1, lockWaitNanos, selectNanos, historyInsertNanos, updateNanos);
         }
     }
 
     /**
-     * 특정 유저의 포인트를 사용하는 기능
+     * hot key 유저의 요청을 모아서 처리하는 기능 (flat combining)
+     * - 요청을 대기열에 넣은 뒤 유저 락을 획득하고, 락을 잡은 Thread 가 대기열의 요청을 순서대로 적용한다.
+     * - 포인트 조회와 저장은 묶음 단위로 한 번만 수행하고, 내역은 요청마다 기록한다.
      *
+     * @param event     요청 시작 시 생성한 JFR 이벤트
      * @param userId    유저 ID
-     * @param amount    사용할 포인트
-     * @return          사용 후 유저 포인트
+     * @param type      트랜잭션 종류
+     * @param amount    충전/사용할 포인트
+     * @return          처리 후 유저 포인트
      */
-    UserPoint use(
+    private UserPoint executeCoalesced(
+            final PointCommandEvent event,
             final long userId,
+            final TransactionType type,
             final long amount
     ) {
-        if (userId <= 0) {
-            throw new InvalidUserIdException();
-        }
-
-        if (amount <= 0) {
-            throw new InvalidUseAmountException();
-        }
+        PendingPointCommand command = new PendingPointCommand(type, amount);
+        Queue<PendingPointCommand> queue = pendingCommands.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        queue.add(command);
 
         ReentrantLock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+
+        long lockRequestedNanos = System.nanoTime();
         lock.lock(); // 유저 락 설정
+        long lockWaitNanos = System.nanoTime() - lockRequestedNanos;
+
+        try {
+            // 대기열은 FIFO 이므로 먼저 락을 잡은 Thread 가 처리하지 못한 경우에도 반복하면 반드시 처리된다.
+            while (!command.isDone()) {
+                applyPendingCommands(userId, queue);
+            }
+
+            // 비어있는 대기열은 제거하여 식은 유저의 대기열이 남지 않도록 함
+            // (제거 직전에 대기열을 얻은 Thread 는 자신이 가진 대기열을 직접 처리하므로 요청이 유실되지 않는다)
+            if (queue.isEmpty()) {
+                pendingCommands.remove(userId, queue);
+            }
+        } finally {
+            lock.unlock(); // 유저 락 해제
+            pointCommandRecorder.record(event, userId, type, command.isCommitted(), true, command.batchSize(),
+                    lockWaitNanos, command.selectNanos(), command.historyInsertNanos(), command.updateNanos());
+        }
+
+        return command.result();
+    }
+
+    /**
+     * 대기열의 요청을 최대 MAX_COALESCED_COMMANDS 개까지 적용 (유저 락을 잡은 상태에서 호출)
+     */
+    private void applyPendingCommands(
+            final long userId,
+            final Queue<PendingPointCommand> queue
+    ) {
+        List<PendingPointCommand> applied = new ArrayList<>();
+        PendingPointCommand command = null;
 
         try {
-            UserPoint originalUserPoint = userPointTable.selectById(userId);
+            long phaseStartNanos = System.nanoTime();
+            long originalPoint = loadPoint(userId);
+            long point = originalPoint;
+            long usedAmount = 0; // 이번 묶음에서 사용한 포인트 (사용 한도는 묶음 반영 후 한 번에 기록)
+            long selectNanos = System.nanoTime() - phaseStartNanos;
 
-            long updatedPoint = originalUserPoint.point() - amount;
+            while (applied.size() < MAX_COALESCED_COMMANDS && (command = queue.poll()) != null) {
+                long updatedPoint;
+                try {
+                    updatedPoint = calculate(point, command.type(), command.amount());
+                    if (command.type() == TransactionType.USE) {
+                        spendingLimiter.check(userId, usedAmount + command.amount());
+                    }
+                } catch (BaseCustomException e) {
+                    command.traced(selectNanos, 0, 0, 0);
+                    command.fail(e); // 해당 요청만 실패 처리하고 나머지 요청은 계속 적용
+                    continue;
+                }
 
-            if (updatedPoint < 0) {
-                throw new ExceedingUseException();
+                phaseStartNanos = System.nanoTime();
+                command.applied(updatedPoint, pointHistoryTable.insert(userId, updatedPoint, command.type(), System.currentTimeMillis()));
+                command.traced(selectNanos, System.nanoTime() - phaseStartNanos, 0, 0);
+                applied.add(command);
+                point = updatedPoint;
+                if (command.type() == TransactionType.USE) {
+                    usedAmount += command.amount();
+                }
             }
+            command = null;
 
-            pointHistoryTable.insert(userId, updatedPoint, TransactionType.USE, System.currentTimeMillis());
+            if (applied.isEmpty()) {
+                return;
+            }
 
-            return userPointTable.insertOrUpdate(userId, updatedPoint);
+            phaseStartNanos = System.nanoTime();
+            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, point);
+            long updateNanos = System.nanoTime() - phaseStartNanos;
+            userPointCache.put(updatedUserPoint);
+            pointLeaderboard.update(userId, originalPoint, point);
+            spendingLimiter.record(userId, usedAmount);
 
-        } finally {
-            lock.unlock(); // 유저 락 해제
+            for (PendingPointCommand appliedCommand : applied) {
+                appliedCommand.traced(selectNanos, appliedCommand.historyInsertNanos(), updateNanos, applied.size());
+                appliedCommand.complete(new UserPoint(userId, appliedCommand.point(), updatedUserPoint.updateMillis()));
+                pointHistoryChangeRing.publish(appliedCommand.pointHistory());
+            }
+
+        } catch (RuntimeException e) {
+            // 예상치 못한 오류 시 이번 묶음의 요청을 모두 실패 처리
+            if (command != null) {
+                command.fail(e);
+            }
+            applied.forEach(appliedCommand -> appliedCommand.fail(e));
+            throw e;
         }
     }
+
+    /**
+     * @return  대기 요청 큐가 남아있는 hot key 유저 수
+     */
+    long pendingCommandQueueCount() {
+        return pendingCommands.size();
+    }
+
+    /**
+     * 캐시를 우선 조회하고, 없으면 UserPointTable 에서 조회하여 캐시에 채우는 기능
+     * - 락 밖에서 조회한 값이 최신 값을 덮어쓰지 않도록 putIfAbsent 로만 채운다.
+     * - 포인트가 0 인 결과는 채우지 않는다. (없는 유저 ID 로 요청할 때마다 캐시가 커지지 않도록 함)
+     *   UserPointTable 은 없는 유저도 포인트 0 으로 반환하므로, 잔액이 있는 유저와 커밋된 변경만 캐시에 들어간다.
+     *
+     * @param userId    유저 ID
+     * @return          유저 포인트
+     */
+    private UserPoint loadUserPoint(
+            final long userId
+    ) {
+        UserPoint cachedUserPoint = userPointCache.get(userId);
+        if (cachedUserPoint != null) {
+            return cachedUserPoint;
+        }
+
+        UserPoint userPoint = userPointTable.selectById(userId);
+        if (userPoint.point() > 0) {
+            userPointCache.putIfAbsent(userPoint);
+        }
+        return userPoint;
+    }
+
+    /**
+     * loadUserPoint 와 같지만, 캐시에 있는 경우 UserPoint 객체를 만들지 않고 포인트만 조회하는 기능
+     * - 충전/사용 경로(거절 포함)에서 요청마다 객체가 생성되지 않도록 한다.
+     *
+     * @param userId    유저 ID
+     * @return          유저 포인트
+     */
+    private long loadPoint(
+            final long userId
+    ) {
+        long cachedPoint = userPointCache.pointOf(userId);
+        if (cachedPoint >= 0) {
+            return cachedPoint;
+        }
+
+        return loadUserPoint(userId).point();
+    }
+
+    /**
+     * 충전/사용 후 포인트를 계산하는 기능
+     *
+     * @param point     현재 포인트
+     * @param type      트랜잭션 종류
+     * @param amount    충전/사용할 포인트
+     * @return          충전/사용 후 포인트
+     */
+    private long calculate(
+            final long point,
+            final TransactionType type,
+            final long amount
+    ) {
+        return switch (type) {
+            case CHARGE -> {
+                if (point + amount > UserPoint.MAX_POINT) {
+                    throw ExceedingChargeException.INSTANCE;
+                }
+                yield point + amount;
+            }
+            case USE -> {
+                if (point - amount < 0) {
+                    throw ExceedingUseException.INSTANCE;
+                }
+                yield point - amount;
+            }
+        };
+    }
 }
@@ -6,6 +6,8 @@ public record UserPoint(
         long updateMillis
 ) {
 
+    public static final long MAX_POINT = 10_000_000L; // 최대 보유 가능 포인트
+
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
     }
@@ -0,0 +1,273 @@
+package io.hhplus.tdd.support;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * primitive long 을 키로 사용하는 동시성 Map
+ * - ConcurrentHashMap&lt;Long, V&gt; 와 달리 조회 시 키 박싱이 발생하지 않아, 요청마다 호출되는 경로에서도 객체를 생성하지 않는다.
+ * - open addressing 해시 테이블을 세그먼트 단위로 나누고 세그먼트별 StampedLock 으로 동시 접근을 제어한다.
+ * - 조회는 락 없이 optimistic read 로 수행하고, 그 사이 변경이 있었던 경우에만 읽기 락을 잡고 다시 조회한다.
+ *   (computeIfAbsent 도 이미 값이 있으면 락 없이 반환하므로, 요청마다 호출되는 경로에서 락을 잡지 않는다)
+ * - 키는 0 이 아닌 값이어야 한다. (0 은 빈 슬롯 표시로 사용)
+ *
+ * @param <V>   값 타입
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int SEGMENT_COUNT = 64;
+    private static final int INITIAL_SEGMENT_CAPACITY = 1 << 6;
+    private static final long EMPTY = 0L;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * @param key   키
+     * @return      값 (없으면 null)
+     */
+    public V get(long key) {
+        long hash = hash(key);
+        return segmentOf(hash).get(key, hash);
+    }
+
+    /**
+     * 키에 해당하는 값이 없으면 mappingFunction 으로 생성하여 저장
+     * - 값이 이미 있으면 락 없이 반환하고, 없을 때만 세그먼트 락을 잡는다.
+     * - mappingFunction 은 세그먼트 락을 잡은 상태에서 호출되므로 같은 Map 을 변경해서는 안 된다.
+     *
+     * @param key               키
+     * @param mappingFunction   값 생성 함수
+     * @return                  기존 값 또는 새로 생성한 값
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 는 0 이 될 수 없습니다.");
+        }
+
+        long hash = hash(key);
+        return segmentOf(hash).computeIfAbsent(key, hash, mappingFunction);
+    }
+
+    /**
+     * 키에 value 가 매핑되어 있는 경우에만 제거
+     *
+     * @param key   키
+     * @param value 제거할 값 (동일 객체인 경우에만 제거)
+     * @return      제거 여부
+     */
+    public boolean remove(long key, V value) {
+        long hash = hash(key);
+        return segmentOf(hash).remove(key, hash, value);
+    }
+
+    /**
+     * 지정한 세그먼트에서 조건을 만족하는 항목을 제거
+     * - 전체를 한 번에 정리하면 모든 세그먼트 락을 연달아 잡게 되므로, 세그먼트 단위로 나누어 점진적으로 정리할 수 있도록 한다.
+     * - filter 는 세그먼트 락을 잡은 상태에서 호출되므로 같은 Map 을 변경해서는 안 된다.
+     *
+     * @param segmentIndex  세그먼트 번호 (0 ~ segmentCount() - 1)
+     * @param filter        제거 조건
+     * @return              제거한 항목 수
+     */
+    public int removeIf(int segmentIndex, Predicate<? super V> filter) {
+        return segments[segmentIndex].removeIf(filter);
+    }
+
+    /**
+     * @return  세그먼트 수
+     */
+    public int segmentCount() {
+        return SEGMENT_COUNT;
+    }
+
+    /**
+     * @return  저장된 항목 수
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment<V> segmentOf(long hash) {
+        return segments[(int) (hash >>> 58)]; // 상위 6 bit 로 세그먼트 선택
+    }
+
+    private static long hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static final class Segment<V> {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_SEGMENT_CAPACITY];
+        private Object[] values = new Object[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        V get(long key, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            Object value = lookup(key, hash);
+            if (lock.validate(stamp)) {
+                return (V) value;
+            }
+
+            // 조회 도중 변경이 있었던 경우 읽기 락을 잡고 다시 조회
+            stamp = lock.readLock();
+            try {
+                return (V) lookup(key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V computeIfAbsent(long key, long hash, LongFunction<? extends V> mappingFunction) {
+            long stamp = lock.tryOptimisticRead();
+            Object existing = lookup(key, hash);
+            if (existing != null && lock.validate(stamp)) {
+                return (V) existing;
+            }
+
+            stamp = lock.writeLock();
+            try {
+                int slot = find(keys, key, hash);
+                if (keys[slot] != EMPTY) {
+                    return (V) values[slot];
+                }
+
+                V value = mappingFunction.apply(key);
+                keys[slot] = key;
+                values[slot] = value;
+                size++;
+
+                if (size * 4 > keys.length * 3) {
+                    rebuild(keys.length * 2);
+                }
+                return value;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean remove(long key, long hash, Object value) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = find(keys, key, hash);
+                if (keys[slot] == EMPTY || values[slot] != value) {
+                    return false;
+                }
+
+                // backward shift - 뒤따르는 항목 중 빈 슬롯 위치에서도 찾을 수 있는 항목을 당겨 probing 체인을 유지
+                int mask = keys.length - 1;
+                int hole = slot;
+                int next = (hole + 1) & mask;
+                while (keys[next] != EMPTY) {
+                    int home = (int) hash(keys[next]) & mask;
+                    if (((next - home) & mask) >= ((next - hole) & mask)) {
+                        keys[hole] = keys[next];
+                        values[hole] = values[next];
+                        hole = next;
+                    }
+                    next = (next + 1) & mask;
+                }
+                keys[hole] = EMPTY;
+                values[hole] = null;
+                size--;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        int removeIf(Predicate<? super V> filter) {
+            long stamp = lock.writeLock();
+            try {
+                int removed = 0;
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] != EMPTY && filter.test((V) values[i])) {
+                        keys[i] = EMPTY;
+                        values[i] = null;
+                        removed++;
+                    }
+                }
+
+                if (removed > 0) {
+                    // linear probing 체인이 끊어지지 않도록 남은 항목으로 테이블을 다시 구성 (항목이 줄었으면 크기도 축소)
+                    size -= removed;
+                    int capacity = INITIAL_SEGMENT_CAPACITY;
+                    while (size * 2 > capacity) {
+                        capacity <<= 1;
+                    }
+                    rebuild(capacity);
+                }
+                return removed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * 락 없이 호출될 수 있으므로 변경 중인 테이블을 읽더라도 예외나 무한 루프가 발생하지 않도록 한다.
+         * (결과는 호출한 쪽에서 validate 로 확인)
+         */
+        private Object lookup(long key, long hash) {
+            long[] currentKeys = keys;
+            Object[] currentValues = values;
+            if (currentKeys.length != currentValues.length) {
+                return null; // 테이블을 다시 구성하는 중 (validate 실패)
+            }
+
+            int slot = find(currentKeys, key, hash);
+            return currentKeys[slot] == EMPTY ? null : currentValues[slot];
+        }
+
+        private void rebuild(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+
+            keys = new long[capacity];
+            values = new Object[capacity];
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = find(keys, oldKeys[i], hash(oldKeys[i]));
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        // linear probing - key 가 있는 슬롯 또는 첫 번째 빈 슬롯
+        private static int find(long[] keys, long key, long hash) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.warmup;
+
+import io.hhplus.tdd.exception.WarmupInProgressException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 warm-up 이 끝나기 전까지 포인트 조회/충전/사용 요청을 거절하는 gate
+ * - warm-up 은 웹 서버가 요청을 받기 시작한 뒤(ApplicationRunner) 수행되므로, 그 사이 요청이 비어있는 UserPointTable 을 읽어
+ *   덤프의 잔액과 어긋난 값을 응답하거나 기록하지 않도록 한다.
+ *   (readiness probe 는 라우팅만 막을 뿐 이미 연결된 클라이언트의 요청은 막지 못함)
+ * - 덤프 파일이 설정되지 않았으면 처음부터 열려 있다.
+ */
+@Component
+public class UserPointWarmupGate {
+
+    private volatile boolean open;
+
+    public UserPointWarmupGate(
+            @Value("${point.warmup.dump-file:}") String dumpFile
+    ) {
+        this.open = dumpFile.isBlank();
+    }
+
+    /**
+     * warm-up 이 끝나지 않았으면 Exception 발생
+     */
+    public void check() {
+        if (!open) {
+            throw WarmupInProgressException.INSTANCE;
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    void open() {
+        open = true;
+    }
+}
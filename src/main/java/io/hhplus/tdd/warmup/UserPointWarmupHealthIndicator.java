@@ -0,0 +1,35 @@
+package io.hhplus.tdd.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 포인트 warm-up 이 끝난 경우에만 UP 을 보고하는 HealthIndicator
+ * - 적재 중에는 OUT_OF_SERVICE 를 보고하여 트래픽이 유입되지 않도록 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserPointWarmupHealthIndicator implements HealthIndicator {
+
+    private final UserPointWarmupLoader userPointWarmupLoader;
+
+    @Override
+    public Health health() {
+        WarmupState state = userPointWarmupLoader.state();
+
+        Health.Builder builder = switch (state) {
+            case COMPLETED, SKIPPED -> Health.up();
+            case FAILED -> Health.down();
+            case NOT_STARTED, LOADING -> Health.outOfService();
+        };
+
+        return builder
+                .withDetail("state", state)
+                .withDetail("loaded", userPointWarmupLoader.loaded())
+                .withDetail("skipped", userPointWarmupLoader.skipped())
+                .withDetail("elapsedMillis", userPointWarmupLoader.elapsedMillis())
+                .build();
+    }
+}
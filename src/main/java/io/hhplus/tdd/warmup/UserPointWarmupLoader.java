@@ -0,0 +1,283 @@
+package io.hhplus.tdd.warmup;
+
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.point.PointLeaderboard;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 애플리케이션 시작 시 잔액 덤프 파일을 읽어 UserPointCache 와 PointLeaderboard 를 미리 채우는 기능
+ * - 덤프 파일 형식: 한 줄에 "userId,point" (숫자로 시작하지 않는 줄은 헤더/주석으로 보고 건너뜀)
+ * - 이미 캐시에 있는 유저(중복된 줄, warm-up 도중 변경된 유저)와 최대 포인트를 넘는 줄은 건너뛴다.
+ * - 파일을 청크 단위로 나누어 memory-mapped I/O 로 읽고, 청크마다 별도 Thread 에서 병렬로 파싱한다.
+ * - PointLeaderboard 는 줄마다 갱신하지 않고, 청크별로 모은 (userId, point) 를 파싱이 끝난 뒤 seed 로 한 번에 구성한다.
+ * - ApplicationRunner 로 동작하므로 적재가 끝나기 전까지 애플리케이션이 준비(ready) 상태가 되지 않으며,
+ *   그 사이 들어온 포인트 요청은 UserPointWarmupGate 가 거절한다.
+ * - 숫자는 최대 18 자리까지만 허용하여 long 범위를 넘는 값이 음수로 적재되지 않도록 한다.
+ */
+@Component
+public class UserPointWarmupLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointWarmupLoader.class);
+
+    private static final long MAX_CHUNK_SIZE = 256L * 1024 * 1024;
+    private static final int MAX_LINE_LENGTH = 128; // 청크 경계에 걸친 줄을 읽기 위한 여유 크기
+    private static final int MAX_DIGITS = 18; // long 범위를 넘지 않는 최대 자릿수
+    private static final int INITIAL_SEED_CAPACITY = 1024;
+
+    private final UserPointCache userPointCache;
+    private final PointLeaderboard pointLeaderboard;
+    private final UserPointWarmupGate userPointWarmupGate;
+    private final String dumpFile;
+    private final int parallelism;
+
+    private volatile WarmupState state = WarmupState.NOT_STARTED;
+    private volatile long loaded;
+    private volatile long skipped;
+    private volatile long elapsedMillis;
+
+    public UserPointWarmupLoader(
+            UserPointCache userPointCache,
+            PointLeaderboard pointLeaderboard,
+            UserPointWarmupGate userPointWarmupGate,
+            @Value("${point.warmup.dump-file:}") String dumpFile,
+            @Value("${point.warmup.parallelism:0}") int parallelism
+    ) {
+        this.userPointCache = userPointCache;
+        this.pointLeaderboard = pointLeaderboard;
+        this.userPointWarmupGate = userPointWarmupGate;
+        this.dumpFile = dumpFile;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (dumpFile.isBlank()) {
+            state = WarmupState.SKIPPED;
+            userPointWarmupGate.open();
+            return;
+        }
+
+        state = WarmupState.LOADING;
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            load(Path.of(dumpFile));
+        } catch (RuntimeException e) {
+            state = WarmupState.FAILED;
+            throw e;
+        }
+
+        elapsedMillis = System.currentTimeMillis() - startedAt;
+        state = WarmupState.COMPLETED;
+        userPointWarmupGate.open();
+        log.info("유저 포인트 warm-up 완료 - loaded: {}, skipped: {}, elapsed: {}ms", loaded, skipped, elapsedMillis);
+    }
+
+    /**
+     * 덤프 파일을 청크로 나누어 병렬 적재
+     *
+     * @param path  잔액 덤프 파일 경로
+     */
+    void load(
+            final Path path
+    ) {
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long loadMillis = System.currentTimeMillis();
+            int chunkCount = (int) Math.max(parallelism * 4L, (fileSize + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+            long chunkSize = Math.max(1, (fileSize + chunkCount - 1) / chunkCount);
+
+            List<Callable<ChunkResult>> tasks = new ArrayList<>();
+            for (long start = 0; start < fileSize; start += chunkSize) {
+                long chunkStart = start;
+                long chunkEnd = Math.min(fileSize, start + chunkSize);
+                tasks.add(() -> loadChunk(channel, fileSize, chunkStart, chunkEnd, loadMillis));
+            }
+
+            List<ChunkResult> results = new ArrayList<>(tasks.size());
+            long loadedCount = 0;
+            long skippedCount = 0;
+            int seedCount = 0;
+            for (Future<ChunkResult> future : executorService.invokeAll(tasks)) {
+                ChunkResult result = future.get();
+                results.add(result);
+                loadedCount += result.loaded();
+                skippedCount += result.skipped();
+                seedCount = Math.addExact(seedCount, result.seedCount());
+            }
+
+            // 청크별 (userId, point) 를 합쳐 순위 인덱스를 한 번에 구성
+            long[] userIds = new long[seedCount];
+            long[] points = new long[seedCount];
+            int offset = 0;
+            for (int i = 0; i < results.size(); i++) {
+                ChunkResult result = results.get(i);
+                System.arraycopy(result.userIds(), 0, userIds, offset, result.seedCount());
+                System.arraycopy(result.points(), 0, points, offset, result.seedCount());
+                offset += result.seedCount();
+                results.set(i, null); // 복사한 청크 배열은 바로 해제
+            }
+            pointLeaderboard.seed(userIds, points, seedCount);
+
+            loaded = loadedCount;
+            skipped = skippedCount;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 덤프 파일을 읽을 수 없습니다: " + path, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("잔액 덤프 파일 적재에 실패했습니다: " + path, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 덤프 파일 적재가 중단되었습니다: " + path, e);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * [chunkStart, chunkEnd) 범위에서 시작하는 줄을 파싱하여 캐시에 적재
+     * - 청크 시작 위치가 줄 중간이면 해당 줄은 이전 청크가 처리하므로 건너뛴다.
+     * - 포인트가 있는 유저는 순위 인덱스에 적재할 수 있도록 (userId, point) 를 모아서 반환한다.
+     *
+     * @return  적재 건수, 건너뛴 줄 수, 순위 인덱스에 적재할 유저 목록
+     */
+    private ChunkResult loadChunk(
+            final FileChannel channel,
+            final long fileSize,
+            final long chunkStart,
+            final long chunkEnd,
+            final long updateMillis
+    ) throws IOException {
+        long mapStart = Math.max(0, chunkStart - 1); // 직전 바이트로 줄 시작 여부 판단
+        long mapEnd = Math.min(fileSize, chunkEnd + MAX_LINE_LENGTH);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+
+        int position = (int) (chunkStart - mapStart);
+        int end = (int) (chunkEnd - mapStart);
+        int limit = buffer.limit();
+
+        if (chunkStart > 0 && buffer.get(0) != '\n') {
+            while (position < limit && buffer.get(position) != '\n') {
+                position++;
+            }
+            position++;
+        }
+
+        long loadedCount = 0;
+        long skippedCount = 0;
+        long[] userIds = new long[INITIAL_SEED_CAPACITY];
+        long[] points = new long[INITIAL_SEED_CAPACITY];
+        int seedCount = 0;
+
+        while (position < end) {
+            long id = 0;
+            long point = 0;
+            int field = 0;
+            int digits = 0;
+            boolean valid = true;
+
+            int lineStart = position;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == '\n') {
+                    break;
+                }
+                position++;
+
+                if (b >= '0' && b <= '9') {
+                    if (field == 0) {
+                        id = id * 10 + (b - '0');
+                    } else {
+                        point = point * 10 + (b - '0');
+                    }
+                    if (++digits > MAX_DIGITS) {
+                        valid = false; // long 범위를 넘을 수 있는 값
+                    }
+                } else if (b == ',' && field == 0 && digits > 0) {
+                    field = 1;
+                    digits = 0;
+                } else if (b != '\r' && b != ' ') {
+                    valid = false;
+                }
+            }
+
+            if (position == limit && mapEnd < fileSize) {
+                throw new IllegalStateException("덤프 파일의 줄이 너무 깁니다. offset: " + (mapStart + lineStart));
+            }
+            position++; // 개행 문자
+
+            if (position - lineStart <= 1) {
+                continue; // 빈 줄
+            }
+            if (!valid || field != 1 || digits == 0 || id <= 0 || point < 0 || point > UserPoint.MAX_POINT
+                    || !userPointCache.putIfAbsent(id, point, updateMillis)) {
+                skippedCount++;
+                continue;
+            }
+
+            if (point > 0) {
+                if (seedCount == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, seedCount * 2);
+                    points = Arrays.copyOf(points, seedCount * 2);
+                }
+                userIds[seedCount] = id;
+                points[seedCount] = point;
+                seedCount++;
+            }
+            loadedCount++;
+        }
+
+        return new ChunkResult(loadedCount, skippedCount, userIds, points, seedCount);
+    }
+
+    public WarmupState state() {
+        return state;
+    }
+
+    public long loaded() {
+        return loaded;
+    }
+
+    public long skipped() {
+        return skipped;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 청크 적재 결과 (userIds, points 의 앞 seedCount 개가 순위 인덱스에 적재할 유저)
+     */
+    private record ChunkResult(
+            long loaded,
+            long skipped,
+            long[] userIds,
+            long[] points,
+            int seedCount
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.warmup;
+
+/**
+ * 유저 포인트 warm-up 진행 상태
+ * - NOT_STARTED : 시작 전
+ * - SKIPPED : 덤프 파일이 설정되지 않아 건너뜀
+ * - LOADING : 적재 중
+ * - COMPLETED : 적재 완료
+ * - FAILED : 적재 실패
+ */
+public enum WarmupState {
+    NOT_STARTED, SKIPPED, LOADING, COMPLETED, FAILED
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointLeaderboard;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 충전/사용 시 PointLeaderboard 갱신(update)에 드는 쓰기 오버헤드 측정
+ * - 일반 test 태스크에서는 실행되지 않으며, ./gradlew benchmark 로 실행한다.
+ *   (예: ./gradlew benchmark -Dbenchmark.users=5000000 -Dbenchmark.operations=2000000 -Dbenchmark.threads=4)
+ * - benchmark.users 명을 seed 로 적재한 뒤, 스레드별로 겹치지 않는 유저 구간에서 충전/사용을 흉내 내어
+ *   update(userId, 변경 전 포인트, 변경 후 포인트) 1 회의 소요 시간을 HdrHistogram 에 나노초 단위로 기록한다.
+ *   (PointService 는 유저 락 안에서 update 를 호출하므로 같은 유저에 대한 동시 갱신은 없다)
+ * - benchmark.max-p99-micros 가 설정된 경우 update 의 p99 가 이를 넘으면 실패한다.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.enabled", matches = "true")
+public class PointLeaderboardBenchmark {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_INITIAL_POINT = 1_000_000L;
+
+    @DisplayName("충전/사용 1 건당 순위 인덱스 갱신 지연 시간을 측정한다.")
+    @Test
+    void leaderboardUpdateBenchmark() throws Exception {
+        // given
+        int userCount = Integer.getInteger("benchmark.users", 1_000_000);
+        int operations = Integer.getInteger("benchmark.operations", 2_000_000);
+        int threads = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors());
+
+        SplittableRandom random = new SplittableRandom(42L);
+        long[] userIds = new long[userCount];
+        long[] points = new long[userCount];
+        for (int i = 0; i < userCount; i++) {
+            userIds[i] = i + 1;
+            points[i] = random.nextLong(1, MAX_INITIAL_POINT + 1);
+        }
+
+        PointLeaderboard pointLeaderboard = new PointLeaderboard();
+        long seedStartedAt = System.nanoTime();
+        pointLeaderboard.seed(userIds, points, userCount);
+        long seedNanos = System.nanoTime() - seedStartedAt;
+
+        // when - JIT 워밍업 후 측정
+        run(pointLeaderboard, points, operations, threads, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        long elapsedNanos = run(pointLeaderboard, points, operations, threads, recorder);
+        Histogram histogram = recorder.getIntervalHistogram();
+
+        // then
+        System.out.printf("== leaderboard update: users=%d, operations=%d, threads=%d ==%n", userCount, operations, threads);
+        System.out.printf("seed      %10.1f ms (%.3f us/user)%n", seedNanos / 1_000_000.0, seedNanos / 1_000.0 / userCount);
+        System.out.printf("update    mean %.3f us, p50 %.3f us, p90 %.3f us, p99 %.3f us, p99.9 %.3f us, max %.3f us%n",
+                histogram.getMean() / 1_000.0,
+                histogram.getValueAtPercentile(50) / 1_000.0,
+                histogram.getValueAtPercentile(90) / 1_000.0,
+                histogram.getValueAtPercentile(99) / 1_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000.0,
+                histogram.getMaxValue() / 1_000.0);
+        System.out.printf("throughput %.0f updates/s%n", operations / (elapsedNanos / 1_000_000_000.0));
+
+        String maxP99Micros = System.getProperty("benchmark.max-p99-micros");
+        if (maxP99Micros != null) {
+            assertThat(histogram.getValueAtPercentile(99) / 1_000.0).isLessThanOrEqualTo(Double.parseDouble(maxP99Micros));
+        }
+    }
+
+    // 스레드마다 겹치지 않는 유저 구간에서 충전(60%)/사용(40%)을 흉내 내어 update 를 호출하고 경과 시간을 반환
+    private static long run(PointLeaderboard pointLeaderboard, long[] points, int operations, int threads, Recorder recorder)
+            throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        int usersPerThread = points.length / threads;
+        int operationsPerThread = operations / threads;
+
+        try {
+            long startedAt = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int firstUser = t * usersPerThread;
+                long seed = t;
+                futures.add(executorService.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        int user = firstUser + random.nextInt(usersPerThread);
+                        long previousPoint = points[user];
+                        long point = random.nextInt(10) < 6 || previousPoint < 500
+                                ? previousPoint + random.nextLong(100, 1_000)
+                                : previousPoint - random.nextLong(100, 500);
+
+                        long operationStartedAt = System.nanoTime();
+                        pointLeaderboard.update(user + 1, previousPoint, point);
+                        recorder.recordValue(Math.min(System.nanoTime() - operationStartedAt, HIGHEST_TRACKABLE_NANOS));
+                        points[user] = point;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
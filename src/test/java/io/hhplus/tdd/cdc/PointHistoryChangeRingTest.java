@@ -0,0 +1,120 @@
+package io.hhplus.tdd.cdc;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointHistoryChangeRingTest {
+
+    private final PointHistoryChangeRing ring = new PointHistoryChangeRing(4);
+
+    private final List<PointHistory> drainedHistories = new ArrayList<>();
+    private final List<Long> drainedDrops = new ArrayList<>();
+
+    @DisplayName("추가한 순서대로 꺼내며, 용량을 여러 번 넘겨 순환해도 순서가 유지된다.")
+    @Test
+    void publishAndDrainWrapAroundSuccess() {
+        // given
+        ring.open();
+
+        // when
+        for (long id = 1; id <= 10; id++) {
+            assertThat(ring.publish(history(id))).isTrue();
+            assertThat(ring.drain(this::collect, 1)).isEqualTo(1);
+        }
+
+        // then
+        assertThat(drainedHistories).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(ring.lag()).isZero();
+        assertThat(ring.dropped()).isZero();
+    }
+
+    @DisplayName("maxItems 개까지만 꺼내고, 남은 항목은 다음 drain 에서 꺼낸다.")
+    @Test
+    void drainMaxItemsSuccess() {
+        // given
+        ring.open();
+        for (long id = 1; id <= 3; id++) {
+            ring.publish(history(id));
+        }
+
+        // when
+        int firstDrained = ring.drain(this::collect, 2);
+        long lag = ring.lag();
+        int secondDrained = ring.drain(this::collect, 2);
+
+        // then
+        assertThat(firstDrained).isEqualTo(2);
+        assertThat(lag).isEqualTo(1);
+        assertThat(secondDrained).isEqualTo(1);
+        assertThat(drainedHistories).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("링이 가득 차면 항목을 버리고, 이후 추가된 항목에 그때까지의 유실 건수를 함께 전달한다.")
+    @Test
+    void publishFullRingDropSuccess() {
+        // given
+        ring.open();
+        for (long id = 1; id <= 4; id++) {
+            assertThat(ring.publish(history(id))).isTrue();
+        }
+
+        // when
+        boolean fifth = ring.publish(history(5));
+        boolean sixth = ring.publish(history(6));
+        ring.drain(this::collect, 4);
+        ring.publish(history(7));
+        ring.drain(this::collect, 4);
+
+        // then
+        assertThat(fifth).isFalse();
+        assertThat(sixth).isFalse();
+        assertThat(ring.dropped()).isEqualTo(2);
+        assertThat(drainedHistories).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 7L);
+        assertThat(drainedDrops).containsExactly(0L, 0L, 0L, 0L, 2L);
+    }
+
+    @DisplayName("링이 열리기 전이나 닫힌 후에는 추가하지 않으며, 유실로 집계하지 않는다.")
+    @Test
+    void publishClosedRingSuccess() {
+        // given
+        boolean beforeOpen = ring.publish(history(1));
+        ring.open();
+        boolean opened = ring.publish(history(2));
+        ring.close();
+
+        // when
+        boolean afterClose = ring.publish(history(3));
+        ring.drain(this::collect, 4);
+
+        // then
+        assertThat(beforeOpen).isFalse();
+        assertThat(opened).isTrue();
+        assertThat(afterClose).isFalse();
+        assertThat(ring.dropped()).isZero();
+        assertThat(drainedHistories).extracting(PointHistory::id).containsExactly(2L);
+    }
+
+    @DisplayName("용량이 2의 제곱수가 아니면 Exception 이 발생한다.")
+    @Test
+    void invalidCapacityFail() {
+        assertThrows(IllegalArgumentException.class, () -> new PointHistoryChangeRing(3));
+        assertThrows(IllegalArgumentException.class, () -> new PointHistoryChangeRing(0));
+    }
+
+    private void collect(PointHistory pointHistory, long droppedBefore) {
+        drainedHistories.add(pointHistory);
+        drainedDrops.add(droppedBefore);
+    }
+
+    private static PointHistory history(long id) {
+        return new PointHistory(id, 1L, 100L, TransactionType.CHARGE, id);
+    }
+}
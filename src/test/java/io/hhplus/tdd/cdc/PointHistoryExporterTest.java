@@ -0,0 +1,263 @@
+package io.hhplus.tdd.cdc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointHistoryExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("records-per-file 건마다 새 세그먼트에 기록하고, 각 줄에 연속된 offset 을 부여한다.")
+    @Test
+    void rollSegmentSuccess() throws Exception {
+        // given
+        PointHistoryChangeRing ring = new PointHistoryChangeRing(16);
+        PointHistoryExporter exporter = exporter(ring, 3);
+        exporter.start();
+
+        // when
+        for (long id = 1; id <= 7; id++) {
+            ring.publish(history(id));
+        }
+        exporter.stop();
+
+        // then
+        assertThat(segmentNames()).containsExactly(
+                "point-history-00000000000000000000.ndjson.gz",
+                "point-history-00000000000000000003.ndjson.gz",
+                "point-history-00000000000000000006.ndjson.gz"
+        );
+        List<JsonNode> lines = readAllLines();
+        assertThat(lines).extracting(line -> line.get("offset").asLong()).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(exporter.nextOffset()).isEqualTo(7);
+    }
+
+    @DisplayName("재시작 시 마지막 세그먼트의 다음 offset 부터 이어서 기록한다.")
+    @Test
+    void restartResumeSuccess() throws Exception {
+        // given
+        PointHistoryChangeRing firstRing = new PointHistoryChangeRing(16);
+        PointHistoryExporter firstExporter = exporter(firstRing, 3);
+        firstExporter.start();
+        for (long id = 1; id <= 4; id++) {
+            firstRing.publish(history(id));
+        }
+        firstExporter.stop();
+
+        // when
+        PointHistoryChangeRing secondRing = new PointHistoryChangeRing(16);
+        PointHistoryExporter secondExporter = exporter(secondRing, 3);
+        secondExporter.start();
+        long resumedOffset = secondExporter.nextOffset();
+        secondRing.publish(history(5));
+        secondExporter.stop();
+
+        // then
+        assertThat(resumedOffset).isEqualTo(4);
+        assertThat(segmentNames()).last().isEqualTo("point-history-00000000000000000004.ndjson.gz");
+        assertThat(readAllLines()).extracting(line -> line.get("offset").asLong()).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("비정상 종료로 잘린 마지막 세그먼트는 완전히 기록된 줄까지만 인정하고 그 다음 offset 부터 기록한다.")
+    @Test
+    void restartTruncatedSegmentSuccess() throws Exception {
+        // given - gzip trailer 없이 마지막 줄이 중간에 잘린 세그먼트
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(bytes, true);
+        for (long offset = 10; offset < 13; offset++) {
+            gzip.write(objectMapper.writeValueAsBytes(PointHistoryChange.of(offset, history(offset))));
+            gzip.write('\n');
+        }
+        gzip.write("{\"offset\":13,\"id\"".getBytes(StandardCharsets.UTF_8));
+        gzip.flush();
+        Files.write(tempDir.resolve("point-history-00000000000000000010.ndjson.gz"), bytes.toByteArray());
+
+        PointHistoryChangeRing ring = new PointHistoryChangeRing(16);
+        PointHistoryExporter exporter = exporter(ring, 100);
+
+        // when
+        exporter.start();
+        long resumedOffset = exporter.nextOffset();
+        ring.publish(history(99));
+        exporter.stop();
+
+        // then
+        assertThat(resumedOffset).isEqualTo(13);
+        assertThat(segmentNames()).last().isEqualTo("point-history-00000000000000000013.ndjson.gz");
+    }
+
+    @DisplayName("링이 가득 차 유실된 내역은 유실 위치에 gap marker 로 기록하고 dropped 로 집계한다.")
+    @Test
+    void droppedGapMarkerSuccess() throws Exception {
+        // given
+        PointHistoryChangeRing ring = new PointHistoryChangeRing(2);
+        PointHistoryExporter exporter = exporter(ring, 100);
+        exporter.start();
+
+        // when
+        for (long id = 1; id <= 4; id++) {
+            ring.publish(history(id)); // 3, 4 는 유실
+        }
+        exporter.drainSafely();
+        ring.publish(history(5));
+        ring.publish(history(6));
+        ring.publish(history(7)); // 유실
+        exporter.stop();
+
+        // then
+        List<JsonNode> lines = readAllLines();
+        assertThat(lines).extracting(line -> line.get("offset").asLong()).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+        assertThat(lines).extracting(line -> line.has("dropped") ? "gap:" + line.get("dropped").asLong() : "id:" + line.get("id").asLong())
+                .containsExactly("id:1", "id:2", "gap:2", "id:5", "id:6", "gap:1");
+        assertThat(exporter.dropped()).isEqualTo(3);
+    }
+
+    @DisplayName("기록에 실패한 배치는 버리지 않고, 다음 시도에서 같은 offset 부터 다시 기록한다.")
+    @Test
+    void retryFailedBatchSuccess() throws Exception {
+        // given
+        PointHistoryChangeRing ring = new PointHistoryChangeRing(16);
+        PointHistoryExporter exporter = exporter(ring, 1); // 한 건마다 새 세그먼트
+        exporter.start();
+        ring.publish(history(1));
+        exporter.drainSafely();
+
+        // when - 디렉토리가 사라져 세그먼트를 만들 수 없는 상태
+        deleteDirectory();
+        ring.publish(history(2));
+        exporter.drainSafely();
+        long failedOffset = exporter.nextOffset();
+
+        Files.createDirectories(tempDir);
+        exporter.drainSafely();
+        exporter.stop();
+
+        // then
+        assertThat(failedOffset).isEqualTo(1);
+        assertThat(exporter.nextOffset()).isEqualTo(2);
+        assertThat(exporter.dropped()).isZero();
+        List<JsonNode> lines = readAllLines();
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).get("offset").asLong()).isEqualTo(1L);
+        assertThat(lines.get(0).get("id").asLong()).isEqualTo(2L);
+    }
+
+    @DisplayName("세그먼트 중간에 기록이 실패하면 flush 되지 않은 줄을 잘라내고, 같은 offset 이 중복되지 않도록 이어서 기록한다.")
+    @Test
+    void retryPartiallyWrittenSegmentSuccess() throws Exception {
+        // given - id 가 4 인 내역을 처음 직렬화할 때 실패
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        ObjectMapper failingObjectMapper = new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (value instanceof PointHistoryChange change && change.id() == 4 && failOnce.getAndSet(false)) {
+                    throw new JsonMappingException(null, "직렬화 실패");
+                }
+                return super.writeValueAsString(value);
+            }
+        };
+        PointHistoryChangeRing ring = new PointHistoryChangeRing(16);
+        PointHistoryExporter exporter = new PointHistoryExporter(ring, failingObjectMapper, new SimpleMeterRegistry(), true, tempDir, 100, 100, Duration.ofHours(1));
+        exporter.start();
+        ring.publish(history(1));
+        ring.publish(history(2));
+        exporter.drainSafely();
+
+        // when - 같은 세그먼트에 3 을 기록한 뒤 4 에서 실패
+        ring.publish(history(3));
+        ring.publish(history(4));
+        ring.publish(history(5));
+        exporter.drainSafely();
+        long failedOffset = exporter.nextOffset();
+
+        exporter.drainSafely();
+        exporter.stop();
+
+        // then - 첫 세그먼트는 flush 된 0, 1 까지만 남고, 2 부터 새 세그먼트에 기록
+        assertThat(failedOffset).isEqualTo(2);
+        assertThat(segmentNames()).containsExactly(
+                "point-history-00000000000000000000.ndjson.gz",
+                "point-history-00000000000000000002.ndjson.gz"
+        );
+        List<JsonNode> lines = readAllLines();
+        assertThat(lines).extracting(line -> line.get("offset").asLong()).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(exporter.dropped()).isZero();
+    }
+
+    private PointHistoryExporter exporter(PointHistoryChangeRing ring, long recordsPerFile) {
+        // 주기 실행이 테스트에 끼어들지 않도록 poll-interval 을 길게 설정
+        return new PointHistoryExporter(ring, objectMapper, new SimpleMeterRegistry(), true, tempDir, 100, recordsPerFile, Duration.ofHours(1));
+    }
+
+    private List<String> segmentNames() throws IOException {
+        try (Stream<Path> segments = Files.list(tempDir)) {
+            return segments.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    // 잘린 세그먼트(gzip trailer 없음)는 압축 해제할 수 있는 줄까지만 읽는다.
+    private List<JsonNode> readAllLines() throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String name : segmentNames()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(tempDir.resolve(name)))) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, read);
+                }
+            } catch (EOFException e) {
+                // 잘린 세그먼트
+            }
+            for (String line : bytes.toString(StandardCharsets.UTF_8).split("\n")) {
+                if (!line.isEmpty()) {
+                    lines.add(objectMapper.readTree(line));
+                }
+            }
+        }
+        return lines;
+    }
+
+    private void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static PointHistory history(long id) {
+        return new PointHistory(id, 1L, 100L, TransactionType.CHARGE, id);
+    }
+}
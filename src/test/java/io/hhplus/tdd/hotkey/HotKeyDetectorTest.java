@@ -0,0 +1,153 @@
+package io.hhplus.tdd.hotkey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotKeyDetectorTest {
+
+    private static final long WINDOW_MILLIS = 1_000L;
+
+    // 윈도우 1초, 5회 이상이면 hot key, 윈도우 종료 시 2회 미만이면 해제, 최대 2개
+    private final HotKeyDetector hotKeyDetector = new HotKeyDetector(true, 256, Duration.ofMillis(WINDOW_MILLIS), 5, 2, 2);
+
+    private final long startMillis = System.currentTimeMillis(); // 첫 윈도우 시작 시각 이후
+
+    @DisplayName("윈도우 내 요청 수가 hot-threshold 에 도달하는 시점부터 hot key 로 판단한다.")
+    @Test
+    void promoteAtHotThresholdSuccess() {
+        // given
+        final long userId = 1L;
+
+        // when
+        // then
+        for (int i = 1; i < 5; i++) {
+            assertThat(hotKeyDetector.record(userId, startMillis)).isFalse();
+        }
+        assertThat(hotKeyDetector.record(userId, startMillis)).isTrue();
+        assertThat(hotKeyDetector.isHot(userId)).isTrue();
+        assertThat(hotKeyDetector.hotKeys(startMillis)).containsExactly(new HotKey(userId, 5L));
+    }
+
+    @DisplayName("윈도우 종료 시점에 요청 수가 cool-threshold 미만이면 해제하고, 이상이면 유지한다.")
+    @Test
+    void demoteBelowCoolThresholdSuccess() {
+        // given
+        final long coolingUserId = 1L;
+        final long stillHotUserId = 2L;
+        for (int i = 0; i < 5; i++) {
+            hotKeyDetector.record(coolingUserId, startMillis);
+            hotKeyDetector.record(stillHotUserId, startMillis);
+        }
+
+        // when - 두 번째 윈도우: coolingUser 1회, stillHotUser 2회
+        hotKeyDetector.record(coolingUserId, startMillis + WINDOW_MILLIS);
+        hotKeyDetector.record(stillHotUserId, startMillis + WINDOW_MILLIS);
+        hotKeyDetector.record(stillHotUserId, startMillis + WINDOW_MILLIS);
+
+        // then - 세 번째 윈도우 시작 시점에 판단
+        assertThat(hotKeyDetector.hotKeys(startMillis + WINDOW_MILLIS * 2)).extracting(HotKey::userId).containsExactly(stillHotUserId);
+        assertThat(hotKeyDetector.isHot(coolingUserId)).isFalse();
+    }
+
+    @DisplayName("요청이 끊긴 hot key 는 다음 요청이 없어도 목록 조회 시 해제된다.")
+    @Test
+    void demoteIdleHotKeySuccess() {
+        // given
+        final long userId = 1L;
+        for (int i = 0; i < 10; i++) {
+            hotKeyDetector.record(userId, startMillis);
+        }
+
+        // when
+        int hotKeysInWindow = hotKeyDetector.hotKeys(startMillis + WINDOW_MILLIS / 2).size();
+        int hotKeysAfterIdle = hotKeyDetector.hotKeys(startMillis + WINDOW_MILLIS * 2).size();
+
+        // then
+        assertThat(hotKeysInWindow).isEqualTo(1);
+        assertThat(hotKeysAfterIdle).isZero();
+        assertThat(hotKeyDetector.isHot(userId)).isFalse();
+    }
+
+    @DisplayName("hot key 슬롯이 가득 차면 새 유저는 임계치를 넘어도 hot key 로 등록되지 않는다.")
+    @Test
+    void slotExhaustionSuccess() {
+        // given
+        for (long userId = 1; userId <= 2; userId++) {
+            for (int i = 0; i < 5; i++) {
+                hotKeyDetector.record(userId, startMillis);
+            }
+        }
+
+        // when
+        boolean thirdUserHot = false;
+        for (int i = 0; i < 10; i++) {
+            thirdUserHot = hotKeyDetector.record(3L, startMillis);
+        }
+
+        // then
+        assertThat(thirdUserHot).isFalse();
+        assertThat(hotKeyDetector.hotKeys(startMillis)).extracting(HotKey::userId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("비활성화되어 있으면 요청 수와 관계없이 hot key 로 판단하지 않는다.")
+    @Test
+    void disabledSuccess() {
+        // given
+        HotKeyDetector disabledDetector = new HotKeyDetector(false, 256, Duration.ofMillis(WINDOW_MILLIS), 1, 0, 2);
+
+        // when
+        boolean hot = disabledDetector.record(1L, startMillis);
+
+        // then
+        assertThat(hot).isFalse();
+        assertThat(disabledDetector.hotKeys(startMillis)).isEmpty();
+    }
+
+    @DisplayName("같은 유저가 여러 Thread 에서 동시에 hot key 로 등록되어도 정확히 한 슬롯에만 남는다.")
+    @Test
+    void concurrentPromoteSuccess() throws InterruptedException {
+        // given
+        final long userId = 1L;
+        final int threadCount = 8;
+        final int trials = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            for (int trial = 0; trial < trials; trial++) {
+                // 첫 요청부터 hot key 로 전환되도록 임계치를 1 로 설정
+                HotKeyDetector detector = new HotKeyDetector(true, 256, Duration.ofMinutes(1), 1, 0, threadCount);
+                CountDownLatch startLatch = new CountDownLatch(1);
+                CountDownLatch endLatch = new CountDownLatch(threadCount);
+
+                for (int i = 0; i < threadCount; i++) {
+                    executorService.execute(() -> {
+                        try {
+                            startLatch.await();
+                            detector.record(userId);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            endLatch.countDown();
+                        }
+                    });
+                }
+
+                // when
+                startLatch.countDown();
+                endLatch.await();
+
+                // then
+                assertThat(detector.hotKeys()).extracting(HotKey::userId).containsExactly(userId);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.hhplus.tdd.limit;
+
+import io.hhplus.tdd.exception.SpendingLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SpendingLimiterTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private final long startMillis = System.currentTimeMillis() / HOUR * HOUR; // 정각 기준
+
+    // 24시간 동안 최대 10,000 포인트, 1시간 동안 최대 3,000 포인트
+    private final SpendingLimiter spendingLimiter = new SpendingLimiter(true, 10_000L, 3_000L, Duration.ofMinutes(1));
+
+    @DisplayName("1시간 동안 사용한 포인트가 한도를 넘으면 Exception 이 발생하고, 1시간이 지나면 다시 사용할 수 있다.")
+    @Test
+    void hourlyLimitSuccess() {
+        // given
+        final long userId = 1L;
+        spendingLimiter.record(userId, 2_000L, startMillis);
+        spendingLimiter.record(userId, 1_000L, startMillis + 30 * MINUTE);
+
+        // when
+        // then
+        assertThrows(
+                SpendingLimitExceededException.class,
+                () -> spendingLimiter.check(userId, 1L, startMillis + 59 * MINUTE)
+        );
+        assertDoesNotThrow(() -> spendingLimiter.check(userId, 2_000L, startMillis + 61 * MINUTE)); // 첫 사용분 만료
+        assertThrows(
+                SpendingLimitExceededException.class,
+                () -> spendingLimiter.check(userId, 2_001L, startMillis + 61 * MINUTE)
+        );
+    }
+
+    @DisplayName("1시간 한도 이내라도 24시간 동안 사용한 포인트가 한도를 넘으면 Exception 이 발생한다.")
+    @Test
+    void dailyLimitFail() {
+        // given
+        final long userId = 1L;
+        for (int hour = 0; hour < 4; hour++) {
+            spendingLimiter.record(userId, 2_500L, startMillis + hour * HOUR);
+        }
+
+        // when
+        // then
+        assertThrows(
+                SpendingLimitExceededException.class,
+                () -> spendingLimiter.check(userId, 1L, startMillis + 23 * HOUR)
+        );
+        assertDoesNotThrow(() -> spendingLimiter.check(userId, 2_500L, startMillis + 25 * HOUR)); // 첫 사용분 만료
+    }
+
+    @DisplayName("사용 내역이 없는 유저도 한 번에 한도를 넘는 포인트는 사용할 수 없다.")
+    @Test
+    void firstUseExceedingLimitFail() {
+        // given
+        final long userId = 1L;
+
+        // when
+        // then
+        assertThrows(
+                SpendingLimitExceededException.class,
+                () -> spendingLimiter.check(userId, 3_001L, startMillis)
+        );
+        assertDoesNotThrow(() -> spendingLimiter.check(userId, 3_000L, startMillis));
+    }
+
+    @DisplayName("한도가 비활성화되어 있으면 사용량을 보관하지 않는다.")
+    @Test
+    void disabledSuccess() {
+        // given
+        SpendingLimiter disabledLimiter = new SpendingLimiter(false, 10_000L, 3_000L, Duration.ofMinutes(1));
+
+        // when
+        disabledLimiter.record(1L, 100_000L);
+
+        // then
+        assertDoesNotThrow(() -> disabledLimiter.check(1L, 100_000L));
+        assertThat(disabledLimiter.windowCount()).isZero();
+    }
+
+    @DisplayName("마지막 사용 후 모든 윈도우가 만료된 유저의 사용량은 정리된다.")
+    @Test
+    void evictIdleWindowSuccess() {
+        // given
+        for (long userId = 1; userId <= 1_000; userId++) {
+            spendingLimiter.record(userId, 100L, startMillis);
+        }
+        final long activeUserId = 1_001L;
+
+        // when
+        long nowMillis = startMillis + 26 * HOUR;
+        for (int i = 0; i < 64; i++) { // 정리 주기마다 세그먼트 하나씩 정리
+            nowMillis += MINUTE;
+            spendingLimiter.record(activeUserId, 100L, nowMillis);
+        }
+
+        // then
+        assertThat(spendingLimiter.windowCount()).isEqualTo(1);
+        assertThrows(
+                SpendingLimitExceededException.class,
+                () -> spendingLimiter.check(activeUserId, 2_000L, startMillis + 26 * HOUR + 64 * MINUTE)
+        ); // 정리 이후에도 활성 유저의 사용량은 유지
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.load;
+
+/**
+ * 부하 테스트 요청 종류
+ * - CHARGE : PATCH /point/{id}/charge
+ * - USE : PATCH /point/{id}/use
+ * - POINT : GET /point/{id}
+ * - HISTORY : GET /point/{id}/histories
+ */
+public enum LoadOperation {
+    CHARGE, USE, POINT, HISTORY
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과
+ *
+ * @param scenario      실행한 시나리오
+ * @param elapsedNanos  측정 구간 소요 시간
+ * @param histograms    요청 종류별 지연 시간 히스토그램 (마이크로초)
+ * @param statuses      요청 종류별 응답 상태 건수 (1xx, 2xx, 3xx, 4xx, 5xx, 전송 오류/시간 초과)
+ */
+public record LoadResult(
+        LoadScenario scenario,
+        long elapsedNanos,
+        Map<LoadOperation, Histogram> histograms,
+        Map<LoadOperation, long[]> statuses
+) {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    /**
+     * 요청 종류별 요약(처리량, 백분위 지연 시간, 응답 상태)을 출력
+     */
+    public void printSummary(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+
+        out.printf("== load test: rate=%d/s, users=%d, zipf=%.2f, duration=%.1fs ==%n",
+                scenario.rate(), scenario.userCount(), scenario.zipfExponent(), elapsedSeconds);
+        out.printf("%-8s %8s %9s %10s %10s %10s %10s %10s %8s %8s %8s%n",
+                "op", "count", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "2xx", "4xx", "5xx/err");
+
+        for (Map.Entry<LoadOperation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long[] status = statuses.get(entry.getKey());
+
+            out.printf("%-8s %8d %9.1f %10.2f %10.2f %10.2f %10.2f %10.2f %8d %8d %8d%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI,
+                    status[1], status[3], status[4] + status[5]);
+        }
+    }
+
+    /**
+     * 요청 종류별 HdrHistogram 백분위 분포(.hgrm, 밀리초 단위)를 파일로 저장
+     * - HdrHistogram plotter 등으로 이전 실행 결과와 비교할 수 있다.
+     */
+    public void writePercentileDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<LoadOperation, Histogram> entry : histograms.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    /**
+     * @return  요청 종류별 p99 지연 시간 중 최대값 (밀리초)
+     */
+    public double maxP99Millis() {
+        return histograms.values().stream()
+                .filter(histogram -> histogram.getTotalCount() > 0)
+                .mapToDouble(histogram -> histogram.getValueAtPercentile(99) / MICROS_PER_MILLI)
+                .max()
+                .orElse(0);
+    }
+}
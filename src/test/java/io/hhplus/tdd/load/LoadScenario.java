@@ -0,0 +1,66 @@
+package io.hhplus.tdd.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 시나리오
+ * - 모든 값은 "load." 접두사의 시스템 프로퍼티로 변경할 수 있다. (예: -Dload.rate=200 -Dload.zipf=1.2)
+ *
+ * @param duration          측정 시간
+ * @param warmup            측정 전 워밍업 시간 (결과에서 제외)
+ * @param rate              초당 요청 수 (open-loop 목표 처리량)
+ * @param userCount         요청 대상 유저 수 (1 ~ userCount)
+ * @param zipfExponent      유저 분포의 Zipf 지수 (0 이면 균등 분포, 클수록 소수 유저에 집중)
+ * @param chargeWeight      충전 요청 비중
+ * @param useWeight         사용 요청 비중
+ * @param pointWeight       포인트 조회 요청 비중
+ * @param historyWeight     내역 조회 요청 비중
+ */
+public record LoadScenario(
+        Duration duration,
+        Duration warmup,
+        int rate,
+        int userCount,
+        double zipfExponent,
+        int chargeWeight,
+        int useWeight,
+        int pointWeight,
+        int historyWeight
+) {
+
+    public static LoadScenario fromSystemProperties() {
+        return new LoadScenario(
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 30)),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5)),
+                Integer.getInteger("load.rate", 50),
+                Integer.getInteger("load.users", 1_000),
+                Double.parseDouble(System.getProperty("load.zipf", "1.0")),
+                Integer.getInteger("load.weight.charge", 30),
+                Integer.getInteger("load.weight.use", 20),
+                Integer.getInteger("load.weight.point", 40),
+                Integer.getInteger("load.weight.history", 10)
+        );
+    }
+
+    /**
+     * 가중치에 따라 요청 종류를 선택
+     *
+     * @param random    0 이상 1 미만의 난수
+     * @return          요청 종류
+     */
+    public LoadOperation pick(double random) {
+        double total = chargeWeight + useWeight + pointWeight + historyWeight;
+        double threshold = random * total;
+
+        if ((threshold -= chargeWeight) < 0) {
+            return LoadOperation.CHARGE;
+        }
+        if ((threshold -= useWeight) < 0) {
+            return LoadOperation.USE;
+        }
+        if (threshold - pointWeight < 0) {
+            return LoadOperation.POINT;
+        }
+        return LoadOperation.HISTORY;
+    }
+}
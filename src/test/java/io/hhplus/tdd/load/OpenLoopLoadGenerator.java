@@ -0,0 +1,158 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * PointController 에 대한 open-loop 부하 생성기
+ * - 요청은 응답을 기다리지 않고 고정된 간격(1 / rate)의 "예정 시각"에 맞춰 전송한다.
+ * - 지연 시간은 실제 전송 시각이 아닌 예정 시각부터 측정하여 coordinated omission 을 보정한다.
+ *   (서버가 느려져 전송이 밀리더라도 밀린 시간만큼 지연 시간에 반영된다.)
+ * - 요청 종류별로 HdrHistogram 에 마이크로초 단위로 기록한다.
+ * - 대기 시간(1분)이 지나도 응답이 없는 요청은 최대 측정값(5분)의 지연 시간과 전송 오류로 기록하고 결과를 그대로 반환한다.
+ *   (늦게 도착한 응답은 중복 기록하지 않음)
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int ERROR_STATUS_INDEX = 5;
+
+    private final URI baseUri;
+    private final LoadScenario scenario;
+    private final UserIdDistribution userIdDistribution;
+    private final HttpClient httpClient;
+    private final Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+    private final AtomicLongArray statusCounts = new AtomicLongArray(LoadOperation.values().length * 6); // 요청 종류 x (1xx ~ 5xx, 오류)
+
+    public OpenLoopLoadGenerator(URI baseUri, LoadScenario scenario) {
+        this.baseUri = baseUri;
+        this.scenario = scenario;
+        this.userIdDistribution = new UserIdDistribution(scenario.userCount(), scenario.zipfExponent());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        for (LoadOperation operation : LoadOperation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+        }
+    }
+
+    /**
+     * 워밍업 후 시나리오 시간 동안 부하를 발생시키고 요청 종류별 지연 시간 히스토그램을 반환
+     */
+    public LoadResult run() throws InterruptedException {
+        generate(scenario.warmup());
+        resetStatistics(); // 워밍업 구간 결과는 버림
+
+        long startedAt = System.nanoTime();
+        generate(scenario.duration());
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, long[]> statuses = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            long[] counts = new long[6];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = statusCounts.get(operation.ordinal() * 6 + i);
+            }
+            statuses.put(operation, counts);
+        }
+
+        return new LoadResult(scenario, elapsedNanos, histograms, statuses);
+    }
+
+    private void generate(Duration duration) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.rate();
+        long requestCount = duration.toNanos() / intervalNanos;
+        CountDownLatch completed = new CountDownLatch((int) requestCount);
+        LoadOperation[] operations = new LoadOperation[(int) requestCount];
+        AtomicIntegerArray recorded = new AtomicIntegerArray((int) requestCount); // 요청별 기록 여부 (응답과 시간 초과 중 먼저 기록한 쪽만 반영)
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < requestCount; i++) {
+            int index = i;
+            long intendedStartNanos = startNanos + i * intervalNanos;
+            long waitNanos;
+            while ((waitNanos = intendedStartNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LoadOperation operation = scenario.pick(random.nextDouble());
+            long userId = userIdDistribution.sample(random.nextDouble());
+            operations[i] = operation;
+
+            httpClient.sendAsync(request(operation, userId, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (!recorded.compareAndSet(index, 0, 1)) {
+                            return; // 이미 시간 초과로 기록된 요청
+                        }
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+                        int statusIndex = failure != null ? ERROR_STATUS_INDEX : Math.min(4, response.statusCode() / 100 - 1);
+                        record(operation, latencyMicros, statusIndex);
+                        completed.countDown();
+                    });
+        }
+
+        if (completed.await(1, TimeUnit.MINUTES)) {
+            return;
+        }
+
+        // 응답을 받지 못한 요청은 최대 측정값의 시간 초과로 기록
+        long timedOut = 0;
+        for (int i = 0; i < requestCount; i++) {
+            if (recorded.compareAndSet(i, 0, 1)) {
+                record(operations[i], HIGHEST_TRACKABLE_MICROS, ERROR_STATUS_INDEX);
+                timedOut++;
+            }
+        }
+        System.err.printf("응답을 받지 못한 요청 %d 건을 시간 초과로 기록했습니다.%n", timedOut);
+    }
+
+    private void record(LoadOperation operation, long latencyMicros, int statusIndex) {
+        recorders.get(operation).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        statusCounts.incrementAndGet(operation.ordinal() * 6 + statusIndex);
+    }
+
+    private HttpRequest request(LoadOperation operation, long userId, ThreadLocalRandom random) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+
+        return switch (operation) {
+            case CHARGE -> builder.uri(baseUri.resolve("/point/" + userId + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(random.nextLong(100, 1_000))))
+                    .build();
+            case USE -> builder.uri(baseUri.resolve("/point/" + userId + "/use"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(random.nextLong(100, 500))))
+                    .build();
+            case POINT -> builder.uri(baseUri.resolve("/point/" + userId)).GET().build();
+            case HISTORY -> builder.uri(baseUri.resolve("/point/" + userId + "/histories")).GET().build();
+        };
+    }
+
+    private void resetStatistics() {
+        for (Recorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+        for (int i = 0; i < statusCounts.length(); i++) {
+            statusCounts.set(i, 0);
+        }
+    }
+}
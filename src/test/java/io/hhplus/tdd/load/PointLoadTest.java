@@ -0,0 +1,49 @@
+package io.hhplus.tdd.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션을 loopback 으로 띄우고 PointController 에 HTTP 부하를 발생시키는 테스트
+ * - 일반 test 태스크에서는 실행되지 않으며, ./gradlew loadTest 로 실행한다.
+ *   (예: ./gradlew loadTest -Dload.rate=200 -Dload.users=100 -Dload.zipf=1.2 -Dload.max-p99-ms=2000)
+ * - 결과는 콘솔 요약과 build/load-reports/*.hgrm 백분위 분포 파일로 남긴다.
+ * - load.max-p99-ms 가 설정된 경우 요청 종류별 p99 가 이를 넘으면 실패한다.
+ */
+@Tag("load")
+@EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PointLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @DisplayName("시나리오에 따라 open-loop 부하를 발생시키고 지연 시간 백분위 리포트를 생성한다.")
+    @Test
+    void pointControllerLoadTest() throws Exception {
+        // given
+        LoadScenario scenario = LoadScenario.fromSystemProperties();
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(URI.create("http://127.0.0.1:" + port), scenario);
+
+        // when
+        LoadResult result = generator.run();
+
+        // then
+        result.printSummary(System.out);
+        result.writePercentileDistributions(Path.of(System.getProperty("load.report-dir", "build/load-reports")));
+
+        String maxP99Millis = System.getProperty("load.max-p99-ms");
+        if (maxP99Millis != null) {
+            assertThat(result.maxP99Millis()).isLessThanOrEqualTo(Double.parseDouble(maxP99Millis));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트 대상 유저 ID 분포 (Zipf)
+ * - 지수가 0 이면 균등 분포이며, 지수가 클수록 작은 ID 의 유저에 요청이 집중된다.
+ */
+public class UserIdDistribution {
+
+    private final double[] cumulative;
+
+    public UserIdDistribution(int userCount, double exponent) {
+        this.cumulative = new double[userCount];
+
+        double sum = 0;
+        for (int rank = 1; rank <= userCount; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < userCount; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @param random    0 이상 1 미만의 난수
+     * @return          유저 ID (1 ~ userCount)
+     */
+    public long sample(double random) {
+        int index = Arrays.binarySearch(cumulative, random);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.cdc.PointHistoryChangeRing;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.ExceedingUseException;
+import io.hhplus.tdd.hotkey.HotKeyDetector;
+import io.hhplus.tdd.jfr.PointCommandRecorder;
+import io.hhplus.tdd.jfr.PointCommandReport;
+import io.hhplus.tdd.limit.SpendingLimiter;
+import io.hhplus.tdd.warmup.UserPointWarmupGate;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointCommandRecordingTest {
+
+    // point.jfr.enabled=false 로 연속 recording 없이 생성 (외부 recording 만으로 기록되는지 확인)
+    private final PointService pointService = new PointService(
+            new UserPointTable(),
+            new UserPointCache(),
+            new PointHistoryTable(),
+            new PointHistoryChangeRing(16),
+            new HotKeyDetector(false, 256, Duration.ofSeconds(1), 50, 20, 4),
+            new PointCommandRecorder(false, Duration.ofHours(1), ""),
+            new PointLeaderboard(),
+            new SpendingLimiter(false, 0, 0, Duration.ofMinutes(1)),
+            new UserPointWarmupGate("")
+    );
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * jcmd JFR.start 처럼 외부에서 시작한 recording 에 PointCommand 이벤트가 기록되고,
+     * PointCommandReport 가 operation 별 단계 지연 시간을 출력한다.
+     */
+    @DisplayName("PointCommand 이벤트를 활성화한 recording 에 충전/사용 요청이 단계별로 기록된다.")
+    @Test
+    void recordPointCommandEventSuccess() throws Exception {
+        // given
+        final long userId = 1L;
+        Path dump = tempDir.resolve("point.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.hhplus.tdd.PointCommand").withoutThreshold();
+            recording.start();
+
+            // when
+            pointService.charge(userId, 1_000L);
+            pointService.charge(userId, 2_000L);
+            pointService.use(userId, 500L);
+            assertThrows(ExceedingUseException.class, () -> pointService.use(userId, 10_000L)); // 거절된 요청도 기록
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // then
+        List<RecordedEvent> events = PointCommandReport.read(dump);
+        assertThat(events).hasSize(4);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getLong("userId")).isEqualTo(userId);
+            // 이벤트 구간은 요청 전체 구간이므로 단계별 소요 시간의 합 이상이다.
+            Duration phases = event.getDuration("lockWait").plus(event.getDuration("select"))
+                    .plus(event.getDuration("historyInsert")).plus(event.getDuration("update"));
+            assertThat(event.getDuration()).isPositive().isGreaterThanOrEqualTo(phases);
+        });
+        assertThat(events).isSortedAccordingTo(Comparator.comparing(RecordedEvent::getStartTime));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new PointCommandReport(events).print(new PrintStream(output, true, StandardCharsets.UTF_8), 2);
+        String report = output.toString(StandardCharsets.UTF_8);
+
+        assertThat(report)
+                .contains("== CHARGE (count: 2, committed: 2, coalesced: 0) ==")
+                .contains("== USE (count: 2, committed: 1, coalesced: 0) ==")
+                .contains("== slowest 2 ==");
+        for (String phase : List.of("lockWait", "select", "historyInsert", "update", "total")) {
+            assertThat(report.lines().filter(line -> line.startsWith(phase + " "))).hasSize(2); // CHARGE, USE 각 1줄
+        }
+        assertThat(report.lines().filter(line -> line.contains(" userId=1 "))).hasSize(2);
+    }
+}
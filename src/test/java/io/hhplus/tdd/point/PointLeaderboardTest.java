@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointLeaderboardTest {
+
+    private final PointLeaderboard pointLeaderboard = new PointLeaderboard();
+
+    @DisplayName("포인트 내림차순으로 상위 유저를 반환하고, 동점자는 같은 순위를 가진다.")
+    @Test
+    void topSuccess() {
+        // given
+        pointLeaderboard.update(1L, 0L, 1_000L);
+        pointLeaderboard.update(2L, 0L, 5_000L);
+        pointLeaderboard.update(3L, 0L, 3_000L);
+        pointLeaderboard.update(4L, 0L, 5_000L);
+
+        // when
+        List<LeaderboardEntry> top = pointLeaderboard.top(3);
+
+        // then
+        assertThat(top).containsExactly(
+                new LeaderboardEntry(1L, 2L, 5_000L),
+                new LeaderboardEntry(1L, 4L, 5_000L),
+                new LeaderboardEntry(3L, 3L, 3_000L)
+        );
+    }
+
+    @DisplayName("포인트가 변경되면 기존 순위 항목을 제거하고 새로운 포인트로 순위를 계산한다.")
+    @Test
+    void updateSuccess() {
+        // given
+        pointLeaderboard.update(1L, 0L, 1_000L);
+        pointLeaderboard.update(2L, 0L, 2_000L);
+        pointLeaderboard.update(3L, 0L, 3_000L);
+
+        // when
+        pointLeaderboard.update(1L, 1_000L, 10_000L); // 1등으로 상승
+        pointLeaderboard.update(3L, 3_000L, 0L);      // 포인트를 모두 사용하여 순위에서 제외
+
+        // then
+        assertThat(pointLeaderboard.size()).isEqualTo(2);
+        assertThat(pointLeaderboard.top(10)).containsExactly(
+                new LeaderboardEntry(1L, 1L, 10_000L),
+                new LeaderboardEntry(2L, 2L, 2_000L)
+        );
+        assertThat(pointLeaderboard.rankOf(10_000L)).isEqualTo(1L);
+        assertThat(pointLeaderboard.rankOf(2_000L)).isEqualTo(2L);
+        assertThat(pointLeaderboard.rankOf(0L)).isEqualTo(3L);
+    }
+
+    @DisplayName("인덱스에 없던 유저의 이전 포인트로 갱신해도 순위가 틀어지지 않는다.")
+    @Test
+    void updateUnindexedUserSuccess() {
+        // given
+        pointLeaderboard.update(1L, 0L, 1_000L);
+
+        // when
+        pointLeaderboard.update(2L, 5_000L, 6_000L); // 테이블에만 있던 유저의 첫 변경
+
+        // then
+        assertThat(pointLeaderboard.rankOf(6_000L)).isEqualTo(1L);
+        assertThat(pointLeaderboard.rankOf(1_000L)).isEqualTo(2L);
+        assertThat(pointLeaderboard.rankOf(5_000L)).isEqualTo(2L);
+    }
+
+    @DisplayName("블록 경계와 최대 포인트를 포함한 포인트 구간에서 순위를 계산한다.")
+    @Test
+    void rankAcrossBlocksSuccess() {
+        // given
+        pointLeaderboard.update(1L, 0L, 1_023L);
+        pointLeaderboard.update(2L, 0L, 1_024L);
+        pointLeaderboard.update(3L, 0L, 5_000_000L);
+        pointLeaderboard.update(4L, 0L, UserPoint.MAX_POINT);
+
+        // when
+        // then
+        assertThat(pointLeaderboard.rankOf(UserPoint.MAX_POINT)).isEqualTo(1L);
+        assertThat(pointLeaderboard.rankOf(5_000_000L)).isEqualTo(2L);
+        assertThat(pointLeaderboard.rankOf(1_024L)).isEqualTo(3L);
+        assertThat(pointLeaderboard.rankOf(1_023L)).isEqualTo(4L);
+        assertThat(pointLeaderboard.rankOf(1L)).isEqualTo(5L);
+    }
+
+    @DisplayName("seed 로 한 번에 적재한 유저도 기존 유저와 함께 순위가 계산되고, 이후 update 가 반영된다.")
+    @Test
+    void seedSuccess() {
+        // given
+        pointLeaderboard.update(1L, 0L, 3_000L);
+
+        // when
+        pointLeaderboard.seed(new long[]{2L, 3L, 4L, 5L}, new long[]{5_000L, 0L, 1_000L, 3_000L}, 4); // 포인트가 0 인 유저는 제외
+        pointLeaderboard.update(4L, 1_000L, 6_000L);
+
+        // then
+        assertThat(pointLeaderboard.size()).isEqualTo(4);
+        assertThat(pointLeaderboard.top(10)).containsExactly(
+                new LeaderboardEntry(1L, 4L, 6_000L),
+                new LeaderboardEntry(2L, 2L, 5_000L),
+                new LeaderboardEntry(3L, 1L, 3_000L),
+                new LeaderboardEntry(3L, 5L, 3_000L)
+        );
+        assertThat(pointLeaderboard.rankOf(3_000L)).isEqualTo(3L);
+        assertThat(pointLeaderboard.rankOf(1_000L)).isEqualTo(5L);
+    }
+
+    @DisplayName("seed 로 적재한 인덱스는 같은 유저를 update 로 적재한 인덱스와 같은 순위를 계산한다.")
+    @Test
+    void seedMatchesUpdateSuccess() {
+        // given
+        final int userCount = 10_000;
+        SplittableRandom random = new SplittableRandom(42L);
+        long[] userIds = new long[userCount];
+        long[] points = new long[userCount];
+        for (int i = 0; i < userCount; i++) {
+            userIds[i] = i + 1;
+            points[i] = random.nextLong(0, UserPoint.MAX_POINT + 1);
+        }
+
+        // when
+        PointLeaderboard seeded = new PointLeaderboard();
+        seeded.seed(userIds, points, userCount);
+        for (int i = 0; i < userCount; i++) {
+            pointLeaderboard.update(userIds[i], 0L, points[i]);
+        }
+
+        // then
+        assertThat(seeded.size()).isEqualTo(pointLeaderboard.size());
+        assertThat(seeded.top(100)).isEqualTo(pointLeaderboard.top(100));
+        for (long point = 0; point <= UserPoint.MAX_POINT; point += 9_973) {
+            assertThat(seeded.rankOf(point)).isEqualTo(pointLeaderboard.rankOf(point));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.cdc.PointHistoryChangeRing;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.BaseCustomException;
+import io.hhplus.tdd.hotkey.HotKeyDetector;
+import io.hhplus.tdd.jfr.PointCommandRecorder;
+import io.hhplus.tdd.limit.SpendingLimiter;
+import io.hhplus.tdd.warmup.UserPointWarmupGate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointServiceAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURE_ITERATIONS = 100_000;
+    private static final int REQUESTS_PER_ITERATION = 6;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final UserPointCache userPointCache = new UserPointCache();
+
+    // 실제 구성요소 사용 (Mock 은 호출 기록 자체가 메모리를 할당하므로 사용하지 않음)
+    private final PointService pointService = new PointService(
+            new UserPointTable(),
+            userPointCache,
+            new PointHistoryTable(),
+            new PointHistoryChangeRing(16),
+            new HotKeyDetector(true, 256, Duration.ofSeconds(1), Long.MAX_VALUE, 0, 4), // hot key 로 전환되지 않도록 설정
+            new PointCommandRecorder(false, Duration.ofHours(1), ""),
+            new PointLeaderboard(),
+            new SpendingLimiter(true, 0, 500L, Duration.ofMinutes(1)), // 1시간 동안 최대 500 포인트 사용
+            new UserPointWarmupGate("")
+    );
+
+    /**
+     * 거절되는 요청(검증 실패, 한도 초과)은 서비스 계층에서 메모리를 할당하지 않는다.
+     *  - 잘못된 사용자 ID
+     *  - 잘못된 충전/사용 금액
+     *  - 최대 충전 금액 초과 / 잔액 초과 사용 / 사용 한도 초과 (캐시에 적재된 유저)
+     * 테스트 코드 자체가 할당하지 않도록 람다 없이 PointService 를 직접 호출한다.
+     */
+    @DisplayName("거절되는 요청은 서비스 계층에서 메모리를 할당하지 않는다.")
+    @Test
+    void rejectedRequestAllocationFree() {
+        // given
+        final long userId = 1_000L; // Long 캐시(-128 ~ 127) 범위를 벗어난 ID
+        userPointCache.put(userId, 1_000L, System.currentTimeMillis());
+
+        // JIT 컴파일이 끝나도록 충분히 실행
+        rejectRequests(userId, WARMUP_ITERATIONS);
+
+        // when
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        int rejected = rejectRequests(userId, MEASURE_ITERATIONS);
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        long baselineBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long baselineBytes = threadMXBean.getCurrentThreadAllocatedBytes() - baselineBefore;
+
+        // then
+        assertThat(rejected).isEqualTo(MEASURE_ITERATIONS * REQUESTS_PER_ITERATION);
+        assertThat(allocatedBytes - baselineBytes).isLessThan(MEASURE_ITERATIONS); // 요청당 0 byte (측정 오차 허용)
+    }
+
+    /**
+     * @return  거절된 요청 수
+     */
+    private int rejectRequests(long userId, int iterations) {
+        int rejected = 0;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                pointService.charge(-1L, 1_000L);
+            } catch (BaseCustomException expected) {
+                rejected++;
+            }
+            try {
+                pointService.charge(userId, 0L);
+            } catch (BaseCustomException expected) {
+                rejected++;
+            }
+            try {
+                pointService.use(userId, -1L);
+            } catch (BaseCustomException expected) {
+                rejected++;
+            }
+            try {
+                pointService.charge(userId, UserPoint.MAX_POINT);
+            } catch (BaseCustomException expected) {
+                rejected++;
+            }
+            try {
+                pointService.use(userId, 1_001L);
+            } catch (BaseCustomException expected) {
+                rejected++;
+            }
+            try {
+                pointService.use(userId, 501L);
+            } catch (BaseCustomException expected) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+}
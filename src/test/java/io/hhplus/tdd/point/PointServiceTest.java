@@ -1,8 +1,14 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.cdc.PointHistoryChangeRing;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.exception.*;
+import io.hhplus.tdd.hotkey.HotKeyDetector;
+import io.hhplus.tdd.jfr.PointCommandRecorder;
+import io.hhplus.tdd.limit.SpendingLimiter;
+import io.hhplus.tdd.warmup.UserPointWarmupGate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,16 +18,26 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 public class PointServiceTest {
 
     // Database Layer Mocking
     private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final UserPointCache userPointCache = new UserPointCache();
     private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+    private final PointHistoryChangeRing pointHistoryChangeRing = mock(PointHistoryChangeRing.class);
+    private final HotKeyDetector hotKeyDetector = mock(HotKeyDetector.class);
+    private final PointCommandRecorder pointCommandRecorder = mock(PointCommandRecorder.class);
+    private final PointLeaderboard pointLeaderboard = mock(PointLeaderboard.class);
+    private final SpendingLimiter spendingLimiter = mock(SpendingLimiter.class);
 
-    private final PointService pointService = new PointService(userPointTable, pointHistoryTable);
+    private final PointService pointService = new PointService(userPointTable, userPointCache, pointHistoryTable, pointHistoryChangeRing, hotKeyDetector, pointCommandRecorder, pointLeaderboard, spendingLimiter, new UserPointWarmupGate(""));
 
     @Nested
     @DisplayName("point - 특정 유저의 포인트를 조회하는 기능")
@@ -32,6 +48,7 @@ public class PointServiceTest {
          *  - 정상적인 사용자 ID 로 요청 시, 해당 사용자의 포인트 데이터를 반환한다.
          *  - 존재하지 않는 사용자 ID 로 요청 시, 포인트 0 인 데이터를 반환한다.
          *  - 잘못된 형식(자연수가 아닐 때)의 사용자 ID 로 요청 시 Exception 이 발생한다.
+         *  - 잔액 warm-up 이 끝나기 전에 요청 시 Exception 이 발생한다.
          */
 
         @DisplayName("정상적인 사용자 ID 로 요청 시, 해당 사용자의 포인트 데이터를 반환한다.")
@@ -62,6 +79,31 @@ public class PointServiceTest {
 
             // then
             Assertions.assertEquals(expectedUserPoint, actualUserPoint);
+            assertThat(userPointCache.size()).isZero(); // 포인트 0 인 조회 결과는 캐시에 채우지 않는다.
+        }
+
+        @DisplayName("잔액 warm-up 이 끝나기 전에 요청 시 Exception 이 발생한다.")
+        @Test
+        void getUserPointDuringWarmupFail() throws Exception {
+            // given
+            PointService warmingUpPointService = new PointService(userPointTable, userPointCache, pointHistoryTable, pointHistoryChangeRing, hotKeyDetector,
+                    pointCommandRecorder, pointLeaderboard, spendingLimiter, new UserPointWarmupGate("balances.csv"));
+
+            // when
+            // then
+            assertThrows(
+                    WarmupInProgressException.class,
+                    () -> warmingUpPointService.point(1L)
+            );
+            assertThrows(
+                    WarmupInProgressException.class,
+                    () -> warmingUpPointService.charge(1L, 1_000L)
+            );
+            assertThrows(
+                    WarmupInProgressException.class,
+                    () -> warmingUpPointService.use(1L, 1_000L)
+            );
+            then(userPointTable).shouldHaveNoInteractions();
         }
 
         @DisplayName("잘못된 형식(자연수가 아닐 때)의 사용자 ID 로 요청 시 Exception 이 발생한다.")
@@ -243,6 +285,7 @@ public class PointServiceTest {
          *  - 잘못된 형식(자연수가 아닐 때)의 사용자 ID 로 요청 시 Exception 이 발생한다.
          *  - 사용 금액이 0 또는 음수일 때, Exception 이 발생한다.
          *  - 사용 후 포인트가 음수일 때, Exception 이 발생한다.
+         *  - 사용 한도를 초과할 때, Exception 이 발생하고 포인트가 변경되지 않는다.
          *  - 그 외 케이스의 경우(사용 금액이 0 보다 크고, 사용 후 포인트가 0 이상일 때), 해당 사용자의 사용 후 포인트 데이터를 반환한다.
          */
 
@@ -304,6 +347,25 @@ public class PointServiceTest {
             );
         }
 
+        @DisplayName("사용 한도를 초과할 때, Exception 이 발생하고 포인트가 변경되지 않는다.")
+        @Test
+        void useExceedingLimitFail() throws Exception {
+            // given
+            final long userId = 1L;
+            final long useAmount = 5_000L;
+            given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 8_000L, System.currentTimeMillis()));
+            willThrow(SpendingLimitExceededException.INSTANCE).given(spendingLimiter).check(userId, useAmount);
+
+            // when
+            // then
+            assertThrows(
+                    SpendingLimitExceededException.class,
+                    () -> pointService.use(userId, useAmount)
+            );
+            then(userPointTable).should(never()).insertOrUpdate(anyLong(), anyLong());
+            then(spendingLimiter).should(never()).record(anyLong(), anyLong());
+        }
+
         @DisplayName("그 외 케이스의 경우(사용 금액이 0 보다 크고, 사용 후 포인트가 0 이상일 때), 해당 사용자의 사용 후 포인트 데이터를 반환한다.")
         @Test
         void useValidAmountSuccess() throws Exception {
@@ -320,6 +382,83 @@ public class PointServiceTest {
 
             // then
             assertThat(actualUserPoint).isEqualTo(expectedUserPoint);
+            then(spendingLimiter).should().record(userId, useAmount);
+        }
+    }
+
+    @Nested
+    @DisplayName("leaderboard - 포인트 보유 상위 유저를 조회하는 기능")
+    class LeaderboardTest {
+
+        /**
+         * 5. 포인트 보유 상위 유저를 조회하는 기능
+         *  - 조회 개수가 1 ~ 100 범위를 벗어나면 Exception 이 발생한다.
+         *  - 그 외 케이스의 경우, 순위 인덱스의 상위 유저 목록을 반환한다.
+         *
+         * 6. 특정 유저의 포인트 보유 순위를 조회하는 기능
+         *  - 잘못된 형식(자연수가 아닐 때)의 사용자 ID 로 요청 시 Exception 이 발생한다.
+         *  - 정상적인 사용자 ID 로 요청 시, 유저의 포인트로 계산한 순위를 반환한다.
+         */
+
+        @DisplayName("조회 개수가 1 ~ 100 범위를 벗어나면 Exception 이 발생한다.")
+        @Test
+        void leaderboardInvalidLimitFail() throws Exception {
+            // when
+            // then
+            assertThrows(
+                    InvalidLimitException.class,
+                    () -> pointService.leaderboard(0)
+            );
+
+            assertThrows(
+                    InvalidLimitException.class,
+                    () -> pointService.leaderboard(101)
+            );
+        }
+
+        @DisplayName("그 외 케이스의 경우, 순위 인덱스의 상위 유저 목록을 반환한다.")
+        @Test
+        void leaderboardSuccess() throws Exception {
+            // given
+            List<LeaderboardEntry> expectedEntries = List.of(
+                    new LeaderboardEntry(1L, 2L, 5_000L),
+                    new LeaderboardEntry(2L, 1L, 1_000L)
+            );
+            given(pointLeaderboard.top(2)).willReturn(expectedEntries);
+
+            // when
+            List<LeaderboardEntry> actualEntries = pointService.leaderboard(2);
+
+            // then
+            assertThat(actualEntries).isEqualTo(expectedEntries);
+        }
+
+        @DisplayName("잘못된 형식(자연수가 아닐 때)의 사용자 ID 로 순위 요청 시 Exception 이 발생한다.")
+        @Test
+        void rankInvalidUserIdFail() throws Exception {
+            // when
+            // then
+            assertThrows(
+                    InvalidUserIdException.class,
+                    () -> pointService.rank(0L)
+            );
+            then(pointLeaderboard).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("정상적인 사용자 ID 로 요청 시, 유저의 포인트로 계산한 순위를 반환한다.")
+        @Test
+        void rankSuccess() throws Exception {
+            // given
+            final long userId = 1L;
+            final long point = 3_000L;
+            given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, point, System.currentTimeMillis()));
+            given(pointLeaderboard.rankOf(point)).willReturn(2L);
+
+            // when
+            LeaderboardEntry actualEntry = pointService.rank(userId);
+
+            // then
+            assertThat(actualEntry).isEqualTo(new LeaderboardEntry(2L, userId, point));
         }
     }
 }
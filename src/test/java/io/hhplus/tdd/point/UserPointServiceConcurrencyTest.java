@@ -1,16 +1,32 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.cdc.PointHistoryChangeRing;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.hotkey.HotKeyDetector;
+import io.hhplus.tdd.jfr.PointCommandRecorder;
+import io.hhplus.tdd.limit.SpendingLimiter;
+import io.hhplus.tdd.warmup.UserPointWarmupGate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 @SpringBootTest
 public class UserPointServiceConcurrencyTest {
@@ -100,4 +116,80 @@ public class UserPointServiceConcurrencyTest {
         long expectedFinalPoint = initialPoint + (threadCount * chargeAmount) - (threadCount * useAmount);
         assertThat(actualFinalPoint).isEqualTo(expectedFinalPoint);
     }
+
+    // 동시성 처리 테스트 - hot key 로 탐지된 유저의 요청 묶음 처리
+    @DisplayName("hot key 로 탐지된 사용자에 대해 충전과 사용 요청이 동시에 발생하는 상황")
+    @Test
+    void hotUserPointConcurrencyTest() throws InterruptedException {
+        // given
+        final long userId = 2L;
+        final long initialPoint = 100_000L; // 요청 처리 순서와 관계없이 사용 요청이 실패하지 않도록 설정
+        final int threadCount = 10;
+        final long chargeAmount = 5_000L;
+        final long useAmount = 3_000L;
+
+        // 첫 요청부터 hot key 로 전환되도록 임계치를 1 로 설정
+        UserPointTable table = new UserPointTable();
+        PointHistoryTable historyTable = new PointHistoryTable();
+        HotKeyDetector hotKeyDetector = new HotKeyDetector(true, 256, Duration.ofMinutes(1), 1, 0, 4);
+        PointCommandRecorder pointCommandRecorder = mock(PointCommandRecorder.class); // 묶음 처리 여부 확인용
+        PointService hotPointService = new PointService(table, new UserPointCache(), historyTable, new PointHistoryChangeRing(16), hotKeyDetector,
+                pointCommandRecorder, new PointLeaderboard(),
+                new SpendingLimiter(false, 0, 0, Duration.ofMinutes(1)), new UserPointWarmupGate(""));
+
+        table.insertOrUpdate(userId, initialPoint);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount * 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount * 2);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    hotPointService.charge(userId, chargeAmount); // 포인트 충전
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    hotPointService.use(userId, useAmount); // 포인트 사용
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executorService.shutdown();
+
+        // when
+        long actualFinalPoint = table.selectById(userId).point();
+
+        // then
+        // 묶음 처리 여부와 관계없이 모든 요청이 반영되고, 요청마다 내역이 기록되어야 한다.
+        long expectedFinalPoint = initialPoint + (threadCount * chargeAmount) - (threadCount * useAmount);
+        assertThat(hotKeyDetector.isHot(userId)).isTrue();
+        assertThat(actualFinalPoint).isEqualTo(expectedFinalPoint);
+        assertThat(historyTable.selectAllByUserId(userId)).hasSize(threadCount * 2);
+
+        // 모든 요청이 묶음 처리 경로를 거쳤고, 2건 이상 한 번에 처리된 묶음이 있어야 한다.
+        ArgumentCaptor<Boolean> coalesced = ArgumentCaptor.forClass(Boolean.class);
+        ArgumentCaptor<Integer> batchSize = ArgumentCaptor.forClass(Integer.class);
+        then(pointCommandRecorder).should(times(threadCount * 2)).record(any(), eq(userId), any(), anyBoolean(), coalesced.capture(),
+                batchSize.capture(), anyLong(), anyLong(), anyLong(), anyLong());
+        assertThat(coalesced.getAllValues()).containsOnly(true);
+        assertThat(batchSize.getAllValues()).anyMatch(size -> size > 1);
+
+        // 처리가 끝난 대기열은 남지 않는다.
+        assertThat(hotPointService.pendingCommandQueueCount()).isZero();
+    }
 }
@@ -0,0 +1,127 @@
+package io.hhplus.tdd.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentLongMapTest {
+
+    private final ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+
+    @DisplayName("항목을 제거해도 남은 항목은 모두 조회된다. (linear probing 체인 유지)")
+    @Test
+    void removeKeepsProbingChainSuccess() {
+        // given
+        final int count = 20_000;
+        for (long key = 1; key <= count; key++) {
+            map.computeIfAbsent(key, String::valueOf);
+        }
+
+        // when
+        for (long key = 1; key <= count; key += 3) {
+            assertThat(map.remove(key, map.get(key))).isTrue();
+        }
+
+        // then
+        for (long key = 1; key <= count; key++) {
+            if (key % 3 == 1) {
+                assertThat(map.get(key)).isNull();
+            } else {
+                assertThat(map.get(key)).isEqualTo(String.valueOf(key));
+            }
+        }
+        assertThat(map.size()).isEqualTo(count - (count + 2) / 3);
+    }
+
+    @DisplayName("다른 값이 매핑되어 있으면 제거하지 않는다.")
+    @Test
+    void removeOtherValueFail() {
+        // given
+        map.computeIfAbsent(1L, key -> "current");
+
+        // when
+        boolean removed = map.remove(1L, "stale");
+
+        // then
+        assertThat(removed).isFalse();
+        assertThat(map.get(1L)).isEqualTo("current");
+    }
+
+    @DisplayName("세그먼트 단위로 조건에 맞는 항목을 제거한다.")
+    @Test
+    void removeIfSuccess() {
+        // given
+        final int count = 10_000;
+        for (long key = 1; key <= count; key++) {
+            map.computeIfAbsent(key, String::valueOf);
+        }
+
+        // when
+        int removed = 0;
+        for (int segment = 0; segment < map.segmentCount(); segment++) {
+            removed += map.removeIf(segment, value -> Long.parseLong(value) % 2 == 0);
+        }
+
+        // then
+        assertThat(removed).isEqualTo(count / 2);
+        assertThat(map.size()).isEqualTo(count / 2);
+        for (long key = 1; key <= count; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : String.valueOf(key));
+        }
+    }
+
+    @DisplayName("추가/제거/resize 가 진행되는 동안에도 락 없이 조회한 값은 항상 올바르다.")
+    @Test
+    void optimisticReadDuringWriteSuccess() throws Exception {
+        // given
+        final int stableCount = 1_000;
+        for (long key = 1; key <= stableCount; key++) {
+            map.computeIfAbsent(key, String::valueOf);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+        try {
+            // when - 다른 키를 반복해서 추가/제거하여 resize 와 probing 체인 변경을 일으킨다.
+            Future<?> writer = executorService.submit(() -> {
+                for (int round = 0; round < 20; round++) {
+                    for (long key = stableCount + 1; key <= stableCount + 20_000; key++) {
+                        map.computeIfAbsent(key, String::valueOf);
+                    }
+                    for (long key = stableCount + 1; key <= stableCount + 20_000; key++) {
+                        map.remove(key, map.get(key));
+                    }
+                }
+                writing.set(false);
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                readers.add(executorService.submit(() -> {
+                    do {
+                        for (long key = 1; key <= stableCount; key++) {
+                            assertThat(map.get(key)).isEqualTo(String.valueOf(key));
+                            assertThat(map.computeIfAbsent(key, k -> "created")).isEqualTo(String.valueOf(key));
+                        }
+                    } while (writing.get());
+                }));
+            }
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(stableCount);
+    }
+}
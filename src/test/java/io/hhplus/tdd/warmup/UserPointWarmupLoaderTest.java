@@ -0,0 +1,127 @@
+package io.hhplus.tdd.warmup;
+
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.point.PointLeaderboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserPointWarmupLoaderTest {
+
+    private final UserPointCache userPointCache = new UserPointCache();
+    private final PointLeaderboard pointLeaderboard = new PointLeaderboard();
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("덤프 파일의 모든 잔액을 청크 경계와 관계없이 캐시에 적재한다.")
+    @Test
+    void loadDumpFileSuccess() throws Exception {
+        // given
+        final int userCount = 10_000;
+        StringBuilder dump = new StringBuilder("userId,point\n"); // 헤더는 건너뛴다.
+        for (long userId = 1; userId <= userCount; userId++) {
+            dump.append(userId).append(',').append(userId * 10).append(userId % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path dumpFile = write(dump.toString());
+
+        // 청크가 여러 개로 나뉘도록 Thread 수를 늘려서 적재
+        UserPointWarmupLoader loader = new UserPointWarmupLoader(userPointCache, pointLeaderboard, new UserPointWarmupGate(dumpFile.toString()), dumpFile.toString(), 7);
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(loader.state()).isEqualTo(WarmupState.COMPLETED);
+        assertThat(loader.loaded()).isEqualTo(userCount);
+        assertThat(loader.skipped()).isEqualTo(1);
+        assertThat(userPointCache.size()).isEqualTo(userCount);
+        assertThat(pointLeaderboard.size()).isEqualTo(userCount);
+        assertThat(pointLeaderboard.top(1).get(0).userId()).isEqualTo(userCount);
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertThat(userPointCache.get(userId).point()).isEqualTo(userId * 10);
+        }
+    }
+
+    @DisplayName("형식이 잘못된 줄과 중복된 유저는 건너뛰고, 마지막 줄에 개행이 없어도 적재한다.")
+    @Test
+    void skipInvalidLinesSuccess() throws Exception {
+        // given
+        Path dumpFile = write("1,100\n\nabc\n0,500\n2,\n4,10000001\n1,200\n3,300");
+        UserPointWarmupLoader loader = new UserPointWarmupLoader(userPointCache, pointLeaderboard, new UserPointWarmupGate(dumpFile.toString()), dumpFile.toString(), 1);
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(loader.loaded()).isEqualTo(2);
+        assertThat(loader.skipped()).isEqualTo(5);
+        assertThat(userPointCache.get(1L).point()).isEqualTo(100L);
+        assertThat(userPointCache.get(3L).point()).isEqualTo(300L);
+        assertThat(userPointCache.get(2L)).isNull();
+        assertThat(userPointCache.get(4L)).isNull();
+    }
+
+    @DisplayName("long 범위를 넘는 숫자(19 자리 이상)가 있는 줄은 음수로 적재하지 않고 건너뛴다.")
+    @Test
+    void skipOverflowLinesSuccess() throws Exception {
+        // given
+        Path dumpFile = write("7,18446744073709551615\n18446744073709551623,100\n8,000000000000000000100\n9,999999999999999999\n10,100\n");
+        UserPointWarmupLoader loader = new UserPointWarmupLoader(userPointCache, pointLeaderboard, new UserPointWarmupGate(dumpFile.toString()), dumpFile.toString(), 1);
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(loader.loaded()).isEqualTo(1);
+        assertThat(loader.skipped()).isEqualTo(4);
+        assertThat(userPointCache.get(7L)).isNull();
+        assertThat(userPointCache.get(8L)).isNull();
+        assertThat(userPointCache.get(9L)).isNull(); // 최대 포인트 초과
+        assertThat(userPointCache.get(10L).point()).isEqualTo(100L);
+    }
+
+    @DisplayName("덤프 파일이 설정된 경우 warm-up 이 끝나야 포인트 요청을 받을 수 있다.")
+    @Test
+    void openGateAfterWarmupSuccess() throws Exception {
+        // given
+        Path dumpFile = write("1,100\n");
+        UserPointWarmupGate gate = new UserPointWarmupGate(dumpFile.toString());
+        UserPointWarmupLoader loader = new UserPointWarmupLoader(userPointCache, pointLeaderboard, gate, dumpFile.toString(), 1);
+        boolean openBeforeWarmup = gate.isOpen();
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(openBeforeWarmup).isFalse();
+        assertThat(gate.isOpen()).isTrue();
+    }
+
+    @DisplayName("덤프 파일이 설정되지 않은 경우 warm-up 을 건너뛴다.")
+    @Test
+    void skipWarmupWithoutDumpFileSuccess() {
+        // given
+        UserPointWarmupLoader loader = new UserPointWarmupLoader(userPointCache, pointLeaderboard, new UserPointWarmupGate(""), "", 1);
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(loader.state()).isEqualTo(WarmupState.SKIPPED);
+        assertThat(userPointCache.size()).isZero();
+        assertThat(new UserPointWarmupGate("").isOpen()).isTrue();
+    }
+
+    private Path write(String content) throws IOException {
+        Path dumpFile = tempDir.resolve("balances.csv");
+        Files.writeString(dumpFile, content);
+        return dumpFile;
+    }
+}